@@ -0,0 +1,38 @@
+package com.coursemate.benchmark;
+
+import com.coursemate.CourseMateApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Shared Spring context for benchmarks.
+ * Boots the application once per forked JVM against the embedded H2 database
+ * configured in application-bench.properties.
+ */
+public final class BenchmarkContext {
+
+    private static ConfigurableApplicationContext context;
+
+    private BenchmarkContext() {
+    }
+
+    public static synchronized ConfigurableApplicationContext get() {
+        if (context == null) {
+            SpringApplication application = new SpringApplication(CourseMateApplication.class);
+            application.setAdditionalProfiles("bench");
+            context = application.run();
+        }
+        return context;
+    }
+
+    public static <T> T getBean(Class<T> type) {
+        return get().getBean(type);
+    }
+
+    public static synchronized void close() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+}
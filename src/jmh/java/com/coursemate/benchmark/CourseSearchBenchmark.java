@@ -0,0 +1,58 @@
+package com.coursemate.benchmark;
+
+import com.coursemate.dto.CourseDTO;
+import com.coursemate.dto.CourseSuggestionDTO;
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.PageQuery;
+import com.coursemate.repository.CourseRepository;
+import com.coursemate.service.CourseService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-keystroke search latency. Sample mode reports percentiles, so p99 of
+ * the in-memory autocomplete can be compared with the Lucene search and
+ * the original LIKE scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseSearchBenchmark {
+
+    private CourseService courseService;
+    private CourseRepository courseRepository;
+    private PageQuery pageQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        courseService = BenchmarkContext.getBean(CourseService.class);
+        courseRepository = BenchmarkContext.getBean(CourseRepository.class);
+        pageQuery = new PageQuery();
+        pageQuery.setSize(10);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public List<CourseSuggestionDTO> autocomplete() {
+        return courseService.autocompleteCourses("benchmark course 1", 10);
+    }
+
+    @Benchmark
+    public CursorPage<CourseDTO> indexedSearch() {
+        return courseService.searchCourses("benchmark course 1", pageQuery);
+    }
+
+    @Benchmark
+    public List<CourseDTO> legacyLikeSearch() {
+        return courseRepository.searchCourseSummaries("benchmark course 1");
+    }
+}
@@ -0,0 +1,68 @@
+package com.coursemate.benchmark;
+
+import com.coursemate.dto.CourseDTO;
+import com.coursemate.dto.SubmissionDTO;
+import com.coursemate.entity.Assessment;
+import com.coursemate.repository.AssessmentRepository;
+import com.coursemate.repository.UserRepository;
+import com.coursemate.service.CourseService;
+import com.coursemate.service.SubmissionService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of loading and mapping large entity lists to DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private CourseService courseService;
+    private SubmissionService submissionService;
+    private Long assessmentId;
+    private Long studentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        courseService = BenchmarkContext.getBean(CourseService.class);
+        submissionService = BenchmarkContext.getBean(SubmissionService.class);
+
+        List<Assessment> assessments = BenchmarkContext.getBean(AssessmentRepository.class).findAll();
+        assessmentId = assessments.get(assessments.size() - 1).getId();
+        studentId = BenchmarkContext.getBean(UserRepository.class)
+                .findByUsername("bench_student1")
+                .orElseThrow()
+                .getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public List<CourseDTO> allCourses() {
+        return courseService.getAllCourses();
+    }
+
+    @Benchmark
+    public List<CourseDTO> activeCourses() {
+        return courseService.getActiveCourses();
+    }
+
+    @Benchmark
+    public List<SubmissionDTO> submissionsByAssessment() {
+        return submissionService.getSubmissionsByAssessment(assessmentId);
+    }
+
+    @Benchmark
+    public List<SubmissionDTO> submissionsByStudent() {
+        return submissionService.getSubmissionsByStudent(studentId);
+    }
+}
@@ -0,0 +1,81 @@
+package com.coursemate.benchmark;
+
+import com.coursemate.dto.CourseDTO;
+import com.coursemate.dto.EnrollmentDTO;
+import com.coursemate.entity.User;
+import com.coursemate.exception.BadRequestException;
+import com.coursemate.repository.UserRepository;
+import com.coursemate.service.CourseService;
+import com.coursemate.service.EnrollmentService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Enrollment throughput when many students hit the same course at once.
+ * Each thread owns a disjoint slice of students and enrolls then drops them.
+ * Eight threads by default; override with -t, the slices follow the actual count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class EnrollmentContentionBenchmark {
+
+    private EnrollmentService enrollmentService;
+    private Long hotCourseId;
+    private List<Long> studentIds;
+    private final AtomicInteger threadCounter = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class StudentSlice {
+        private int offset;
+        private int stride;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp(EnrollmentContentionBenchmark benchmark, BenchmarkParams params) {
+            offset = benchmark.threadCounter.getAndIncrement();
+            stride = params.getThreads();
+        }
+
+        Long nextStudent(List<Long> studentIds) {
+            int slot = offset + (next++ * stride);
+            return studentIds.get(slot % studentIds.size());
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        enrollmentService = BenchmarkContext.getBean(EnrollmentService.class);
+        CourseDTO hotCourse = BenchmarkContext.getBean(CourseService.class).getByCourseCode("BENCH1");
+        hotCourseId = hotCourse.getId();
+        studentIds = BenchmarkContext.getBean(UserRepository.class).findAllStudents().stream()
+                .map(User::getId)
+                .filter(id -> !enrollmentService.isStudentEnrolled(id, hotCourseId))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public Object enrollAndDrop(StudentSlice slice) {
+        Long studentId = slice.nextStudent(studentIds);
+        try {
+            EnrollmentDTO enrollment = enrollmentService.enrollStudent(studentId, hotCourseId);
+            enrollmentService.removeEnrollment(enrollment.getId());
+            return enrollment;
+        } catch (BadRequestException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.coursemate.benchmark;
+
+import com.coursemate.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token cost: issuing tokens and authenticating a request.
+ * legacyRequestAuth reproduces the original filter path, which rebuilt the
+ * key and parser and verified the same token twice on every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String jwtSecret;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokenProvider = BenchmarkContext.getBean(JwtTokenProvider.class);
+        jwtSecret = BenchmarkContext.get().getEnvironment().getRequiredProperty("app.jwt.secret");
+        token = tokenProvider.generateTokenFromUsername("student1");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public String issueToken() {
+        return tokenProvider.generateTokenFromUsername("student1");
+    }
+
+    @Benchmark
+    public String legacyRequestAuth() {
+        SecretKey validateKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        Jwts.parserBuilder().setSigningKey(validateKey).build().parseClaimsJws(token);
+
+        SecretKey usernameKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return Jwts.parserBuilder()
+                .setSigningKey(usernameKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String currentRequestAuth() {
+        Claims claims = tokenProvider.parseValidatedClaims(token);
+        return claims.getSubject();
+    }
+}
@@ -0,0 +1,57 @@
+package com.coursemate.benchmark;
+
+import com.coursemate.dto.ProgressDTO;
+import com.coursemate.entity.Enrollment;
+import com.coursemate.repository.EnrollmentRepository;
+import com.coursemate.service.ProgressService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the student progress dashboard, cycling over seeded enrollments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProgressBenchmark {
+
+    private ProgressService progressService;
+    private long[][] studentCoursePairs;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        progressService = BenchmarkContext.getBean(ProgressService.class);
+
+        // Lazy proxies still expose their identifiers outside a session
+        List<Enrollment> enrollments = BenchmarkContext.getBean(EnrollmentRepository.class).findAll();
+        int count = Math.min(enrollments.size(), 1000);
+        studentCoursePairs = new long[count][];
+        for (int i = 0; i < count; i++) {
+            Enrollment enrollment = enrollments.get(i);
+            studentCoursePairs[i] = new long[]{enrollment.getStudent().getId(), enrollment.getCourse().getId()};
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public ProgressDTO calculateProgress() {
+        long[] pair = studentCoursePairs[next++ % studentCoursePairs.length];
+        return progressService.calculateProgress(pair[0], pair[1]);
+    }
+
+    @Benchmark
+    public ProgressDTO myProgress() {
+        long[] pair = studentCoursePairs[next++ % studentCoursePairs.length];
+        return progressService.getMyProgress(pair[0], pair[1]);
+    }
+}
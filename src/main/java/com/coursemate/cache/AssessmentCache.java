@@ -0,0 +1,94 @@
+package com.coursemate.cache;
+
+import com.coursemate.dto.AssessmentDTO;
+import com.coursemate.event.AssessmentCreatedEvent;
+import com.coursemate.event.AssessmentDeletedEvent;
+import com.coursemate.event.AssessmentUpdatedEvent;
+import com.coursemate.event.SubmissionDeletedEvent;
+import com.coursemate.event.SubmissionEvent;
+import com.coursemate.event.SubmissionSubmittedEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Read-through caches for assessments, by id and per course.
+ * Entries are invalidated once the changing transaction commits; grading
+ * leaves the cached DTOs alone since it does not change the submission count.
+ */
+@Component
+public class AssessmentCache {
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Value("${app.cache.assessments.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.assessments.ttl-ms:300000}")
+    private long ttlMs;
+
+    @Value("${app.cache.assessments.max-size:10000}")
+    private int maxSize;
+
+    private TwoTierCache<Long, AssessmentDTO> byId;
+    private TwoTierCache<Long, List<AssessmentDTO>> byCourse;
+
+    @PostConstruct
+    public void init() {
+        byId = cacheRegistry.create("assessments.byId", enabled, maxSize, ttlMs);
+        byCourse = cacheRegistry.create("assessments.byCourse", enabled, maxSize, ttlMs);
+    }
+
+    public AssessmentDTO getById(Long id, Supplier<AssessmentDTO> loader) {
+        return byId.get(id, loader);
+    }
+
+    public List<AssessmentDTO> getByCourse(Long courseId, Supplier<List<AssessmentDTO>> loader) {
+        return byCourse.get(courseId, () -> List.copyOf(loader.get()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssessmentCreated(AssessmentCreatedEvent event) {
+        byCourse.invalidate(event.getCourseId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssessmentUpdated(AssessmentUpdatedEvent event) {
+        evict(event.getAssessmentId(), event.getCourseId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssessmentDeleted(AssessmentDeletedEvent event) {
+        evict(event.getAssessmentId(), event.getCourseId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubmissionSubmitted(SubmissionSubmittedEvent event) {
+        evict(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubmissionDeleted(SubmissionDeletedEvent event) {
+        evict(event);
+    }
+
+    public List<TwoTierCache<?, ?>> getCaches() {
+        return List.of(byId, byCourse);
+    }
+
+    // Helper to drop the entries that carry a submission count for the assessment
+    private void evict(SubmissionEvent event) {
+        evict(event.getAssessmentId(), event.getCourseId());
+    }
+
+    private void evict(Long assessmentId, Long courseId) {
+        byId.invalidate(assessmentId);
+        byCourse.invalidate(courseId);
+    }
+}
@@ -0,0 +1,18 @@
+package com.coursemate.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Cross-node message telling near caches to drop a key, or everything when key is null
+ */
+@Getter
+@AllArgsConstructor
+public class CacheInvalidation {
+
+    private final String originNodeId;
+
+    private final String cacheName;
+
+    private final String key;
+}
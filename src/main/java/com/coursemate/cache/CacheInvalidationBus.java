@@ -0,0 +1,14 @@
+package com.coursemate.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Channel that carries near-cache invalidations between API nodes, e.g. Redis pub/sub.
+ * Messages are delivered to every node except the one that published them.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(String nodeId, Consumer<CacheInvalidation> listener);
+}
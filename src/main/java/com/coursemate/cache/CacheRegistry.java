@@ -0,0 +1,93 @@
+package com.coursemate.cache;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Creates the application's two-tier caches and routes cross-node invalidations to them,
+ * and to other node-local state derived from the database (see register).
+ * The shared tier is used only when app.cache.l2.enabled is set; the
+ * invalidation bus is always on so near caches never outlive a remote write.
+ */
+@Component
+public class CacheRegistry {
+
+    @Autowired
+    private SharedCacheTier sharedTier;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
+    @Value("${app.cache.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${app.cache.l2.enabled:false}")
+    private boolean sharedTierEnabled;
+
+    private String nodeId;
+
+    private final Map<String, TwoTierCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    private final Map<String, Consumer<String>> listeners = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        nodeId = configuredNodeId == null || configuredNodeId.isBlank()
+                ? UUID.randomUUID().toString()
+                : configuredNodeId;
+        invalidationBus.subscribe(nodeId, invalidation -> {
+            TwoTierCache<?, ?> cache = caches.get(invalidation.getCacheName());
+            if (cache != null) {
+                cache.onRemoteInvalidation(invalidation);
+                return;
+            }
+            Consumer<String> listener = listeners.get(invalidation.getCacheName());
+            if (listener != null) {
+                listener.accept(invalidation.getKey());
+            }
+        });
+    }
+
+    /**
+     * Register node-local derived state, such as a search index, under a name.
+     * broadcast(name, key) on one node calls the listener with the key on every other node.
+     */
+    public void register(String name, Consumer<String> onRemoteChange) {
+        if (caches.containsKey(name) || listeners.putIfAbsent(name, onRemoteChange) != null) {
+            throw new IllegalStateException("Cache already registered: " + name);
+        }
+    }
+
+    public void broadcast(String name, String key) {
+        invalidationBus.publish(new CacheInvalidation(nodeId, name, key));
+    }
+
+    /**
+     * Create and register a cache; names must be unique across the application
+     */
+    public <K, V> TwoTierCache<K, V> create(String name, boolean enabled, int maxSize, long ttlMs) {
+        TwoTierCache<K, V> cache = new TwoTierCache<>(name, enabled, maxSize, ttlMs, nodeId,
+                sharedTierEnabled ? sharedTier : null, invalidationBus);
+        if (listeners.containsKey(name) || caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("Cache already registered: " + name);
+        }
+        return cache;
+    }
+
+    public List<TwoTierCache<?, ?>> getCaches() {
+        return new ArrayList<>(caches.values());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
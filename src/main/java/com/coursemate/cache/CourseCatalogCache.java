@@ -0,0 +1,162 @@
+package com.coursemate.cache;
+
+import com.coursemate.dto.CourseDTO;
+import com.coursemate.event.CourseChangedEvent;
+import com.coursemate.event.EnrollmentChangedEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through caches for the course catalog.
+ * Courses are cached once, by id. Code lookups and the instructor and
+ * active listings cache only course ids and resolve them through the id
+ * cache, so an enrollment change invalidates a single key on every node.
+ * Entries are invalidated once the changing transaction commits.
+ */
+@Component
+public class CourseCatalogCache {
+
+    private static final String ACTIVE_KEY = "active";
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Value("${app.cache.courses.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.courses.ttl-ms:300000}")
+    private long ttlMs;
+
+    @Value("${app.cache.courses.max-size:10000}")
+    private int maxSize;
+
+    private TwoTierCache<Long, CourseDTO> byId;
+    private TwoTierCache<String, Long> idByCode;
+    private TwoTierCache<Long, List<Long>> idsByInstructor;
+    private TwoTierCache<String, List<Long>> activeIds;
+
+    @PostConstruct
+    public void init() {
+        byId = cacheRegistry.create("courses.byId", enabled, maxSize, ttlMs);
+        idByCode = cacheRegistry.create("courses.idByCode", enabled, maxSize, ttlMs);
+        idsByInstructor = cacheRegistry.create("courses.idsByInstructor", enabled, maxSize, ttlMs);
+        activeIds = cacheRegistry.create("courses.activeIds", enabled, 1, ttlMs);
+    }
+
+    public CourseDTO getById(Long id, Supplier<CourseDTO> loader) {
+        return byId.get(id, loader);
+    }
+
+    public CourseDTO getByCode(String courseCode, Supplier<CourseDTO> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        CourseDTO[] loaded = {null};
+        Long id = idByCode.get(courseCode, () -> {
+            loaded[0] = loader.get();
+            return loaded[0].getId();
+        });
+        if (loaded[0] != null) {
+            // Cold code lookup: the one read answers this call. Like getList, it is not stored by id:
+            // no id ticket predates the read, so a change committed meanwhile would go unnoticed
+            return loaded[0];
+        }
+        return byId.get(id, loader);
+    }
+
+    public List<CourseDTO> getByInstructor(Long instructorId, Supplier<List<CourseDTO>> loader,
+                                           Function<Collection<Long>, List<CourseDTO>> batchLoader) {
+        return getList(idsByInstructor, instructorId, loader, batchLoader);
+    }
+
+    public List<CourseDTO> getActive(Supplier<List<CourseDTO>> loader,
+                                     Function<Collection<Long>, List<CourseDTO>> batchLoader) {
+        return getList(activeIds, ACTIVE_KEY, loader, batchLoader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        byId.invalidate(event.getCourseId());
+        // Create, activate/deactivate and delete change list membership
+        idsByInstructor.invalidateAll();
+        activeIds.invalidateAll();
+        if (event.isDeleted()) {
+            // Course codes never change, but a deleted course's code may be reused
+            idByCode.invalidateAll();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        // Only enrolledStudentsCount changes
+        byId.invalidate(event.getCourseId());
+    }
+
+    public List<TwoTierCache<?, ?>> getCaches() {
+        return List.of(byId, idByCode, idsByInstructor, activeIds);
+    }
+
+    // Helper to read an id list and resolve it through the id cache, batch-loading the misses
+    private <K> List<CourseDTO> getList(TwoTierCache<K, List<Long>> idCache, K key,
+                                        Supplier<List<CourseDTO>> loader,
+                                        Function<Collection<Long>, List<CourseDTO>> batchLoader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        List<CourseDTO> loaded = new ArrayList<>();
+        List<Long> ids = idCache.get(key, () -> {
+            loaded.addAll(loader.get());
+            return loaded.stream().map(CourseDTO::getId).collect(Collectors.toUnmodifiableList());
+        });
+        if (!loaded.isEmpty() || ids.isEmpty()) {
+            return loaded;
+        }
+
+        Map<Long, CourseDTO> courses = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            CourseDTO course = byId.getIfPresent(id);
+            if (course != null) {
+                courses.put(id, course);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, LocalCache.LoadTicket> tickets = new HashMap<>();
+            for (Long id : missing) {
+                tickets.put(id, byId.beginLoad(id));
+            }
+            try {
+                for (CourseDTO course : batchLoader.apply(missing)) {
+                    courses.put(course.getId(), course);
+                    byId.completeLoad(course.getId(), tickets.remove(course.getId()), course);
+                }
+            } finally {
+                // Clear the marks of ids that were not found (or of every id if the load failed)
+                tickets.forEach((id, ticket) -> byId.completeLoad(id, ticket, null));
+            }
+        }
+
+        List<CourseDTO> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            CourseDTO course = courses.get(id);
+            if (course != null) {
+                result.add(course);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,55 @@
+package com.coursemate.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loopback shared tier: a process-wide map standing in for a distributed cache.
+ * Lets the two-tier path run on a single machine without a Redis instance.
+ */
+public class InMemorySharedCacheTier implements SharedCacheTier {
+
+    private final Map<String, Map<String, StoredValue>> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get(String cacheName, String key) {
+        StoredValue stored = cache(cacheName).get(key);
+        if (stored == null) {
+            return null;
+        }
+        if (stored.expiresAt <= System.currentTimeMillis()) {
+            cache(cacheName).remove(key, stored);
+            return null;
+        }
+        return stored.value;
+    }
+
+    @Override
+    public void put(String cacheName, String key, Object value, long ttlMs) {
+        cache(cacheName).put(key, new StoredValue(value, System.currentTimeMillis() + ttlMs));
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        cache(cacheName).remove(key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        cache(cacheName).clear();
+    }
+
+    private Map<String, StoredValue> cache(String cacheName) {
+        return caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>());
+    }
+
+    private static final class StoredValue {
+        private final Object value;
+        private final long expiresAt;
+
+        private StoredValue(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
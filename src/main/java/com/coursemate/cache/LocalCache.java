@@ -0,0 +1,280 @@
+package com.coursemate.cache;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL-based read-through cache with single-flight loading.
+ * Concurrent misses for the same key share one load instead of stampeding
+ * the database. A load marks its key as pending before reading; invalidating
+ * the key drops the mark, and the loaded value is only stored if the mark is
+ * still there. The check and the store are one atomic map operation, so a
+ * read racing a commit can never pin a stale value, and invalidating one key
+ * does not stop loads of other keys from being cached.
+ * Once more than maxSize entries are held, the entry stored longest ago
+ * is evicted to admit the new one; with one TTL per cache that is also the
+ * entry closest to expiring. Expired entries are dropped the same way.
+ */
+public class LocalCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMs;
+
+    private final Map<K, CachedValue<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    // Stored entries in store order; entries replaced or invalidated since are skipped when reached
+    private final Queue<StoredEntry<K, V>> storeOrder = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public LocalCache(String name, int maxSize, long ttlMs) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Return the cached value, loading it on a miss.
+     * Loader exceptions reach every waiting caller and nothing is cached.
+     */
+    public V get(K key, Supplier<V> loader) {
+        return get(key, loader, null);
+    }
+
+    /**
+     * Same as get(key, loader); onStored runs with the loaded value only when
+     * it is actually cached, atomically with the store
+     */
+    public V get(K key, Supplier<V> loader, Consumer<V> onStored) {
+        CachedValue<V> cached = entries.get(key);
+        if (cached != null && cached.isLive(System.currentTimeMillis())) {
+            hits.incrementAndGet();
+            return cached.value;
+        }
+        misses.incrementAndGet();
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, load);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        LoadTicket ticket = beginLoad(key);
+        try {
+            V value = loader.get();
+            loads.incrementAndGet();
+            completeLoad(key, ticket, value, onStored);
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            completeLoad(key, ticket, null, null);
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    /**
+     * Return the cached value without loading, or null
+     */
+    public V getIfPresent(K key) {
+        CachedValue<V> cached = entries.get(key);
+        if (cached != null && cached.isLive(System.currentTimeMillis())) {
+            hits.incrementAndGet();
+            return cached.value;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Mark a key as loading before reading its value outside get().
+     * Pass the ticket to completeLoad once the value is read.
+     */
+    public LoadTicket beginLoad(K key) {
+        return entries.compute(key, (k, current) ->
+                current != null && current.isPending() ? current : CachedValue.pending()).ticket;
+    }
+
+    /**
+     * Store a value read after beginLoad, unless the key was invalidated in
+     * between; a null value just clears the mark. onStored (may be null) runs
+     * inside the atomic store, so nothing can invalidate the key while it runs.
+     * Returns whether the value was stored.
+     */
+    public boolean completeLoad(K key, LoadTicket ticket, V value, Consumer<V> onStored) {
+        if (ticket == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        AtomicReference<CachedValue<V>> stored = new AtomicReference<>();
+        entries.computeIfPresent(key, (k, current) -> {
+            if (current.ticket != ticket) {
+                return current;
+            }
+            if (value == null) {
+                return null;
+            }
+            if (onStored != null) {
+                onStored.accept(value);
+            }
+            CachedValue<V> entry = new CachedValue<>(value, now + ttlMs, null);
+            stored.set(entry);
+            return entry;
+        });
+        if (stored.get() == null) {
+            return false;
+        }
+        storeOrder.add(new StoredEntry<>(key, stored.get()));
+        evictFromHead(now);
+        return true;
+    }
+
+    public void invalidate(K key) {
+        evictions.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * Drop every entry whose value matches, e.g. lists containing a changed row.
+     * Loads in flight are dropped too, since their value may match once read.
+     */
+    public void invalidateIf(Predicate<V> predicate) {
+        evictions.incrementAndGet();
+        entries.values().removeIf(cached -> cached.isPending() || predicate.test(cached.value));
+    }
+
+    /**
+     * Drop every entry, cached or loading, whose key matches
+     */
+    public void invalidateKeys(Predicate<K> predicate) {
+        evictions.incrementAndGet();
+        entries.keySet().removeIf(predicate);
+    }
+
+    public void invalidateAll() {
+        evictions.incrementAndGet();
+        entries.clear();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return (int) entries.values().stream().filter(cached -> !cached.isPending()).count();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getLoadCount() {
+        return loads.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public double getHitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    // Helper to drop entries from the head of the store order: replaced or invalidated ones,
+    // expired ones, then the oldest live ones while the cache holds more than maxSize
+    private void evictFromHead(long now) {
+        synchronized (storeOrder) {
+            StoredEntry<K, V> head;
+            while ((head = storeOrder.peek()) != null) {
+                boolean current = entries.get(head.key) == head.entry;
+                if (current && head.entry.expiresAt > now && entries.size() <= maxSize) {
+                    return;
+                }
+                storeOrder.poll();
+                if (current && entries.remove(head.key, head.entry)) {
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    // Helper to wait for another caller's load and rethrow its failure unchanged
+    private static <V> V await(CompletableFuture<V> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Identifies one load started with beginLoad
+     */
+    public static final class LoadTicket {
+        private LoadTicket() {
+        }
+    }
+
+    // Position of one stored value in the store order
+    private static final class StoredEntry<K, V> {
+        private final K key;
+        private final CachedValue<V> entry;
+
+        private StoredEntry(K key, CachedValue<V> entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+    }
+
+    // A cached value, or a pending load (null value) holding its ticket
+    private static final class CachedValue<V> {
+        private final V value;
+        private final long expiresAt;
+        private final LoadTicket ticket;
+
+        private CachedValue(V value, long expiresAt, LoadTicket ticket) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.ticket = ticket;
+        }
+
+        private static <V> CachedValue<V> pending() {
+            return new CachedValue<>(null, 0, new LoadTicket());
+        }
+
+        private boolean isPending() {
+            return ticket != null;
+        }
+
+        private boolean isLive(long now) {
+            return !isPending() && expiresAt > now;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.coursemate.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-process invalidation bus.
+ * Delivers synchronously to subscribers registered under a different node id,
+ * so several cache registries in one JVM behave like separate nodes.
+ */
+public class LoopbackInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        published.incrementAndGet();
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.nodeId.equals(invalidation.getOriginNodeId())) {
+                delivered.incrementAndGet();
+                subscriber.listener.accept(invalidation);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(String nodeId, Consumer<CacheInvalidation> listener) {
+        subscribers.add(new Subscriber(nodeId, listener));
+    }
+
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    private static final class Subscriber {
+        private final String nodeId;
+        private final Consumer<CacheInvalidation> listener;
+
+        private Subscriber(String nodeId, Consumer<CacheInvalidation> listener) {
+            this.nodeId = nodeId;
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.coursemate.cache;
+
+import com.coursemate.dto.ProgressDTO;
+import com.coursemate.event.AssessmentCreatedEvent;
+import com.coursemate.event.AssessmentDeletedEvent;
+import com.coursemate.event.ProgressChangedEvent;
+import com.coursemate.event.SubmissionEvent;
+import com.coursemate.event.SubmissionsBulkGradedEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of progress reads keyed by (student, course), built on LocalCache.
+ * Entries are evicted once the transaction that changed the underlying
+ * counters commits, so dashboard polls are served without touching the database.
+ * A load only stores its value if its own key was not evicted meanwhile.
+ */
+@Component
+public class ProgressReadCache {
+
+    @Value("${app.progress.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.progress.cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${app.progress.cache.max-size:50000}")
+    private int maxSize;
+
+    private LocalCache<String, ProgressDTO> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = new LocalCache<>("progress", maxSize, ttlMs);
+    }
+
+    /**
+     * Return the cached progress, loading it on a miss
+     */
+    public ProgressDTO get(Long studentId, Long courseId, Supplier<ProgressDTO> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return cache.get(key(studentId, courseId), loader);
+    }
+
+    public void evict(Long studentId, Long courseId) {
+        cache.invalidate(key(studentId, courseId));
+    }
+
+    public void evictCourse(Long courseId) {
+        String suffix = ":" + courseId;
+        cache.invalidateKeys(key -> key.endsWith(suffix));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubmissionChanged(SubmissionEvent event) {
+        evict(event.getStudentId(), event.getCourseId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubmissionsBulkGraded(SubmissionsBulkGradedEvent event) {
+        event.getGrades().forEach(grade -> evict(grade.getStudentId(), grade.getCourseId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgressChanged(ProgressChangedEvent event) {
+        evict(event.getStudentId(), event.getCourseId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssessmentCreated(AssessmentCreatedEvent event) {
+        evictCourse(event.getCourseId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssessmentDeleted(AssessmentDeletedEvent event) {
+        evictCourse(event.getCourseId());
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    public int getSize() {
+        return cache.getSize();
+    }
+
+    public double getHitRatio() {
+        return cache.getHitRatio();
+    }
+
+    private String key(Long studentId, Long courseId) {
+        return studentId + ":" + courseId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.coursemate.cache;
+
+/**
+ * Shared (L2) cache tier visible to every API node, e.g. Redis.
+ * Values are addressed by cache name and string key.
+ */
+public interface SharedCacheTier {
+
+    /**
+     * Return the stored value, or null when absent or expired
+     */
+    Object get(String cacheName, String key);
+
+    void put(String cacheName, String key, Object value, long ttlMs);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+}
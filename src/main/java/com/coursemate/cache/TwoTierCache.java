@@ -0,0 +1,211 @@
+package com.coursemate.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Near cache (L1) in front of an optional shared tier (L2).
+ * Reads try L1, then L2, then the loader, filling the tiers on the way back.
+ * Local invalidations clear both tiers and are broadcast so the other
+ * nodes drop their L1 copies; remote invalidations only touch L1, since
+ * the originating node clears L2. A loaded value is written to L2 only when
+ * L1 accepted it, i.e. no invalidation of the key overlapped the load.
+ */
+public class TwoTierCache<K, V> {
+
+    private final String name;
+    private final boolean enabled;
+    private final long ttlMs;
+    private final String nodeId;
+    private final LocalCache<String, V> nearCache;
+    private final SharedCacheTier sharedTier;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final AtomicLong sharedHits = new AtomicLong();
+    private final AtomicLong sharedMisses = new AtomicLong();
+    private final AtomicLong invalidationsSent = new AtomicLong();
+    private final AtomicLong invalidationsReceived = new AtomicLong();
+
+    public TwoTierCache(String name, boolean enabled, int maxSize, long ttlMs, String nodeId,
+                        SharedCacheTier sharedTier, CacheInvalidationBus invalidationBus) {
+        this.name = name;
+        this.enabled = enabled;
+        this.ttlMs = ttlMs;
+        this.nodeId = nodeId;
+        this.nearCache = new LocalCache<>(name, maxSize, ttlMs);
+        this.sharedTier = sharedTier;
+        this.invalidationBus = invalidationBus;
+    }
+
+    /**
+     * Return the cached value, loading it on a miss in both tiers.
+     * Concurrent L1 misses for one key share a single L2 read and load.
+     */
+    public V get(K key, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String cacheKey = String.valueOf(key);
+        boolean[] fromShared = {false};
+        return nearCache.get(cacheKey, () -> {
+            V shared = readShared(cacheKey);
+            if (shared != null) {
+                fromShared[0] = true;
+                return shared;
+            }
+            return loader.get();
+        }, value -> {
+            // Only a value L1 accepted (no invalidation overlapped the load) goes to L2
+            if (!fromShared[0]) {
+                writeShared(cacheKey, value);
+            }
+        });
+    }
+
+    /**
+     * Return the value from L1 or L2 without loading, or null
+     */
+    public V getIfPresent(K key) {
+        if (!enabled) {
+            return null;
+        }
+        String cacheKey = String.valueOf(key);
+        V value = nearCache.getIfPresent(cacheKey);
+        if (value == null) {
+            LocalCache.LoadTicket ticket = nearCache.beginLoad(cacheKey);
+            value = readShared(cacheKey);
+            nearCache.completeLoad(cacheKey, ticket, value, null);
+        }
+        return value;
+    }
+
+    /**
+     * Mark a key as loading before reading its value outside get(); see LocalCache#beginLoad
+     */
+    public LocalCache.LoadTicket beginLoad(K key) {
+        return enabled ? nearCache.beginLoad(String.valueOf(key)) : null;
+    }
+
+    /**
+     * Store a value read after beginLoad in both tiers, unless the key was invalidated in between
+     */
+    public void completeLoad(K key, LocalCache.LoadTicket ticket, V value) {
+        if (!enabled) {
+            return;
+        }
+        String cacheKey = String.valueOf(key);
+        nearCache.completeLoad(cacheKey, ticket, value, stored -> writeShared(cacheKey, stored));
+    }
+
+    /**
+     * Drop a key from L2, then from L1 and the other nodes' L1.
+     * L2 goes first so a node that misses L1 after the broadcast reloads
+     * instead of refilling from the old L2 copy. L2 writes happen atomically
+     * with an L1 store that the invalidation cancels, so loads in flight on any
+     * node that hears the broadcast never reach L2. With an asynchronous bus a
+     * remote load can still write L2 before the broadcast arrives; the TTL
+     * bounds that window.
+     */
+    public void invalidate(K key) {
+        String cacheKey = String.valueOf(key);
+        if (sharedTier != null) {
+            sharedTier.evict(name, cacheKey);
+        }
+        nearCache.invalidate(cacheKey);
+        broadcast(cacheKey);
+    }
+
+    public void invalidateAll() {
+        if (sharedTier != null) {
+            sharedTier.clear(name);
+        }
+        nearCache.invalidateAll();
+        broadcast(null);
+    }
+
+    /**
+     * Apply an invalidation published by another node
+     */
+    public void onRemoteInvalidation(CacheInvalidation invalidation) {
+        if (!name.equals(invalidation.getCacheName())) {
+            return;
+        }
+        invalidationsReceived.incrementAndGet();
+        if (invalidation.getKey() == null) {
+            nearCache.invalidateAll();
+        } else {
+            nearCache.invalidate(invalidation.getKey());
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalCache<String, V> getNearCache() {
+        return nearCache;
+    }
+
+    /**
+     * Per-tier metrics: near cache, shared tier and invalidation traffic
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> l1 = new LinkedHashMap<>();
+        l1.put("size", nearCache.getSize());
+        l1.put("hits", nearCache.getHitCount());
+        l1.put("misses", nearCache.getMissCount());
+        l1.put("loads", nearCache.getLoadCount());
+        l1.put("evictions", nearCache.getEvictionCount());
+        l1.put("hitRatio", nearCache.getHitRatio());
+
+        Map<String, Object> l2 = new LinkedHashMap<>();
+        l2.put("enabled", sharedTier != null);
+        l2.put("hits", sharedHits.get());
+        l2.put("misses", sharedMisses.get());
+        long sharedTotal = sharedHits.get() + sharedMisses.get();
+        l2.put("hitRatio", sharedTotal == 0 ? 0.0 : (double) sharedHits.get() / sharedTotal);
+
+        Map<String, Object> invalidations = new LinkedHashMap<>();
+        invalidations.put("sent", invalidationsSent.get());
+        invalidations.put("received", invalidationsReceived.get());
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("l1", l1);
+        stats.put("l2", l2);
+        stats.put("invalidations", invalidations);
+        return stats;
+    }
+
+    // Helper to read L2, counting hits and misses
+    @SuppressWarnings("unchecked")
+    private V readShared(String cacheKey) {
+        if (sharedTier == null) {
+            return null;
+        }
+        V value = (V) sharedTier.get(name, cacheKey);
+        if (value != null) {
+            sharedHits.incrementAndGet();
+        } else {
+            sharedMisses.incrementAndGet();
+        }
+        return value;
+    }
+
+    // Helper to write L2; called from inside the L1 store
+    private void writeShared(String cacheKey, V value) {
+        if (sharedTier != null) {
+            sharedTier.put(name, cacheKey, value, ttlMs);
+        }
+    }
+
+    // Helper to tell the other nodes to drop their near-cache copies
+    private void broadcast(String cacheKey) {
+        if (invalidationBus != null) {
+            invalidationsSent.incrementAndGet();
+            invalidationBus.publish(new CacheInvalidation(nodeId, name, cacheKey));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.coursemate.config;
+
+import com.coursemate.repository.AssessmentStatsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Creates missing assessment statistics rows at startup.
+ * Runs after the seeder and generator, which insert submissions directly,
+ * and backfills assessments created before the stats table existed.
+ */
+@Component
+@Order(4)
+public class AssessmentStatsSynchronizer implements CommandLineRunner {
+
+    @Autowired
+    private AssessmentStatsRepository assessmentStatsRepository;
+
+    @Value("${app.assessment.stats-backfill-on-startup:true}")
+    private boolean enabled;
+
+    @Override
+    @Transactional
+    public void run(String... args) throws Exception {
+        if (!enabled) {
+            return;
+        }
+        int created = assessmentStatsRepository.backfillMissingStats();
+        System.out.println("✓ Assessment statistics backfilled for " + created + " assessments");
+    }
+}
@@ -0,0 +1,30 @@
+package com.coursemate.config;
+
+import com.coursemate.cache.CacheInvalidationBus;
+import com.coursemate.cache.InMemorySharedCacheTier;
+import com.coursemate.cache.LoopbackInvalidationBus;
+import com.coursemate.cache.SharedCacheTier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Default cache tiers.
+ * Both are in-process loopback implementations; define a SharedCacheTier or
+ * CacheInvalidationBus bean backed by a real distributed store to replace them.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(SharedCacheTier.class)
+    public SharedCacheTier sharedCacheTier() {
+        return new InMemorySharedCacheTier();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(CacheInvalidationBus.class)
+    public CacheInvalidationBus cacheInvalidationBus() {
+        return new LoopbackInvalidationBus();
+    }
+}
@@ -0,0 +1,42 @@
+package com.coursemate.config;
+
+import com.coursemate.search.CourseAutocompleteIndex;
+import com.coursemate.search.CourseSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the course autocomplete index and rebuilds the search index at startup.
+ * Runs after the seeder and generator, which insert courses directly,
+ * and picks up changes made while this instance was down.
+ */
+@Component
+@Order(5)
+public class CourseSearchIndexInitializer implements CommandLineRunner {
+
+    @Autowired
+    private CourseSearchIndex courseSearchIndex;
+
+    @Autowired
+    private CourseAutocompleteIndex courseAutocompleteIndex;
+
+    @Value("${app.search.rebuild-on-startup:true}")
+    private boolean enabled;
+
+    @Override
+    public void run(String... args) throws Exception {
+        // In memory only, so it is always loaded
+        int loaded = courseAutocompleteIndex.reload();
+        System.out.println("✓ Course autocomplete index loaded: " + loaded + " courses");
+
+        if (!enabled || !courseSearchIndex.isEnabled()) {
+            return;
+        }
+        int indexed = courseSearchIndex.rebuild();
+        System.out.println("✓ Course search index built: " + indexed + " courses in "
+                + courseSearchIndex.getLastRebuildMs() + "ms");
+    }
+}
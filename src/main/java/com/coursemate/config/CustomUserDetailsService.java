@@ -5,16 +5,22 @@ import com.coursemate.repository.UserRepository;
 import com.coursemate.security.UserPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Custom UserDetailsService for loading user details by username
+ * Custom UserDetailsService for loading user details by username.
+ * Also stores re-encoded passwords when a login presents a hash weaker than
+ * the configured BCrypt strength.
+ * Loads are read-write transactions so they run on the primary: principals are
+ * cached after an eviction, and a replica behind a role change, deactivation or
+ * fresh registration would put the old row back in the cache.
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
@@ -35,4 +41,17 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return UserPrincipal.create(user);
     }
+
+    /**
+     * Persist a re-encoded password after a successful login.
+     * Only the password column is written; the principal is rebuilt around the new hash.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        UserPrincipal principal = (UserPrincipal) user;
+        return new UserPrincipal(principal.getId(), principal.getUsername(), principal.getEmail(),
+                principal.getFullName(), newPassword, principal.getAuthorities(), principal.isEnabled());
+    }
 }
@@ -0,0 +1,242 @@
+package com.coursemate.config;
+
+import com.coursemate.id.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * Synthetic data generator for load tests and benchmarks.
+ * Active only under the "generator" profile; writes production-shaped volumes
+ * with batched JDBC inserts instead of one JPA save per row. Row ids come from
+ * the application id generator, so nothing has to be read back between tables.
+ */
+@Component
+@Profile("generator")
+@Order(2)
+public class DataGenerator implements CommandLineRunner {
+
+    private static final String STUDENT_PREFIX = "gen_student_";
+    private static final String INSTRUCTOR_PREFIX = "gen_instructor_";
+    private static final String COURSE_PREFIX = "GEN";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Value("${app.generator.instructors:500}")
+    private int instructorCount;
+
+    @Value("${app.generator.students:100000}")
+    private int studentCount;
+
+    @Value("${app.generator.courses:5000}")
+    private int courseCount;
+
+    @Value("${app.generator.assessments-per-course:10}")
+    private int assessmentsPerCourse;
+
+    @Value("${app.generator.enrollments:500000}")
+    private int enrollmentCount;
+
+    @Value("${app.generator.submissions:5000000}")
+    private long submissionCount;
+
+    @Value("${app.generator.batch-size:${spring.jpa.properties.hibernate.jdbc.batch_size:20}}")
+    private int batchSize;
+
+    @Override
+    public void run(String... args) throws Exception {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE username LIKE ?", Integer.class, STUDENT_PREFIX + "%");
+        if (existing != null && existing > 0) {
+            System.out.println("Generated data already present. Skipping data generation.");
+            return;
+        }
+
+        System.out.println("Starting synthetic data generation (batch size " + batchSize + ")...");
+        long started = System.currentTimeMillis();
+
+        // Hash once and reuse; a BCrypt encode per user would take hours at this volume
+        String encodedPassword = passwordEncoder.encode("password123");
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        long[] instructorIds = generateUsers(INSTRUCTOR_PREFIX, instructorCount, "Instructor", encodedPassword, now);
+        assignRole(instructorIds, "INSTRUCTOR");
+
+        long[] studentIds = generateUsers(STUDENT_PREFIX, studentCount, "Student", encodedPassword, now);
+        assignRole(studentIds, "STUDENT");
+
+        long[] courseIds = generateCourses(instructorIds, now);
+        Map<Long, long[]> assessmentIdsByCourse = generateAssessments(courseIds, now);
+        long[][] enrollments = generateEnrollments(studentIds, courseIds, now);
+        generateSubmissions(enrollments, assessmentIdsByCourse, now);
+
+        System.out.println("Synthetic data generation completed in "
+                + (System.currentTimeMillis() - started) / 1000 + "s");
+    }
+
+    private long[] generateUsers(String prefix, int count, String lastName, String encodedPassword, Timestamp now) {
+        String sql = "INSERT INTO users (id, email, password, first_name, last_name, username, is_active, " +
+                "token_version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        BatchWriter writer = new BatchWriter(sql, "users");
+        long[] ids = new long[count];
+        for (int i = 1; i <= count; i++) {
+            ids[i - 1] = idGenerator.nextId();
+            writer.add(new Object[]{ids[i - 1], prefix + i + "@coursemate.test", encodedPassword, "Gen" + i, lastName,
+                    prefix + i, true, 0, now, now});
+        }
+        writer.finish();
+        return ids;
+    }
+
+    private void assignRole(long[] userIds, String roleName) {
+        Long roleId = jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = ?", Long.class, roleName);
+        BatchWriter writer = new BatchWriter("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", "user_roles");
+        for (long userId : userIds) {
+            writer.add(new Object[]{userId, roleId});
+        }
+        writer.finish();
+    }
+
+    private long[] generateCourses(long[] instructorIds, Timestamp now) {
+        // Leave headroom so enrollments never hit the capacity limit
+        int maxStudents = Math.max(50, (enrollmentCount / Math.max(courseCount, 1)) * 2);
+
+        String sql = "INSERT INTO courses (id, title, description, course_code, credits, instructor_id, max_students, " +
+                "seats_taken, is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        BatchWriter writer = new BatchWriter(sql, "courses");
+        long[] ids = new long[courseCount];
+        for (int i = 1; i <= courseCount; i++) {
+            ids[i - 1] = idGenerator.nextId();
+            writer.add(new Object[]{ids[i - 1], "Generated Course " + i, "Synthetic course " + i, COURSE_PREFIX + i,
+                    1 + i % 6, instructorIds[i % instructorIds.length], maxStudents, 0, i % 10 != 0, now, now});
+        }
+        writer.finish();
+        return ids;
+    }
+
+    private Map<Long, long[]> generateAssessments(long[] courseIds, Timestamp now) {
+        String[] types = {"QUIZ", "ASSIGNMENT", "EXAM", "PROJECT", "PARTICIPATION"};
+        String sql = "INSERT INTO assessments (id, title, description, type, course_id, total_marks, passing_marks, " +
+                "due_date, is_published, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        BatchWriter writer = new BatchWriter(sql, "assessments");
+        Map<Long, long[]> assessmentIdsByCourse = new HashMap<>();
+        for (long courseId : courseIds) {
+            long[] ids = new long[assessmentsPerCourse];
+            for (int i = 1; i <= assessmentsPerCourse; i++) {
+                ids[i - 1] = idGenerator.nextId();
+                Timestamp dueDate = new Timestamp(now.getTime() + i * 7L * 24 * 60 * 60 * 1000);
+                writer.add(new Object[]{ids[i - 1], COURSE_PREFIX + " Assessment " + i, "Synthetic assessment",
+                        types[i % types.length], courseId, 100.0, 40.0, dueDate, true, now, now});
+            }
+            assessmentIdsByCourse.put(courseId, ids);
+        }
+        writer.finish();
+        return assessmentIdsByCourse;
+    }
+
+    /**
+     * Spread enrollments evenly: each round enrolls every student once, and a
+     * student's course differs per round so (student, course) stays unique.
+     */
+    private long[][] generateEnrollments(long[] studentIds, long[] courseIds, Timestamp now) {
+        int rounds = Math.min(courseIds.length, (enrollmentCount + studentIds.length - 1) / studentIds.length);
+        int total = (int) Math.min(enrollmentCount, (long) rounds * studentIds.length);
+        long[][] enrollments = new long[total][];
+        Map<Long, Integer> seatsTaken = new HashMap<>();
+
+        BatchWriter writer = new BatchWriter(
+                "INSERT INTO enrollments (id, student_id, course_id, status, grade, enrolled_at) VALUES (?, ?, ?, ?, ?, ?)",
+                "enrollments");
+        for (int k = 0; k < total; k++) {
+            int student = k % studentIds.length;
+            int round = k / studentIds.length;
+            long courseId = courseIds[(int) (((long) student * 31 + round) % courseIds.length)];
+            enrollments[k] = new long[]{studentIds[student], courseId};
+            seatsTaken.merge(courseId, 1, Integer::sum);
+            writer.add(new Object[]{idGenerator.nextId(), studentIds[student], courseId, "ACTIVE", 0.0, now});
+        }
+        writer.finish();
+
+        // Courses were inserted with no seats taken; bring the counters in line with the rows above
+        BatchWriter seats = new BatchWriter("UPDATE courses SET seats_taken = ? WHERE id = ?", "courses.seats_taken");
+        seatsTaken.forEach((courseId, taken) -> seats.add(new Object[]{taken, courseId}));
+        seats.finish();
+        return enrollments;
+    }
+
+    private void generateSubmissions(long[][] enrollments, Map<Long, long[]> assessmentIdsByCourse, Timestamp now) {
+        String sql = "INSERT INTO submissions (id, assessment_id, student_id, submission_content, marks_obtained, " +
+                "submitted_at, graded_at, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        BatchWriter writer = new BatchWriter(sql, "submissions");
+        long written = 0;
+
+        outer:
+        for (long[] enrollment : enrollments) {
+            for (long assessmentId : assessmentIdsByCourse.getOrDefault(enrollment[1], new long[0])) {
+                if (written >= submissionCount) {
+                    break outer;
+                }
+                boolean graded = written % 2 == 0;
+                writer.add(new Object[]{idGenerator.nextId(), assessmentId, enrollment[0], "Synthetic submission",
+                        graded ? (double) (written % 101) : null, now, graded ? now : null,
+                        graded ? "GRADED" : "SUBMITTED"});
+                written++;
+            }
+        }
+        writer.finish();
+    }
+
+    /**
+     * Buffers rows and flushes them as JDBC batches, reporting throughput at the end
+     */
+    private class BatchWriter {
+        private final String sql;
+        private final String table;
+        private final List<Object[]> buffer = new ArrayList<>(batchSize);
+        private final long startedAt = System.currentTimeMillis();
+        private long rows;
+
+        private BatchWriter(String sql, String table) {
+            this.sql = sql;
+            this.table = table;
+        }
+
+        void add(Object[] row) {
+            buffer.add(row);
+            if (buffer.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void finish() {
+            flush();
+            long elapsedMs = Math.max(1, System.currentTimeMillis() - startedAt);
+            System.out.printf("✓ %s: %d rows in %.1fs (%d rows/s)%n",
+                    table, rows, elapsedMs / 1000.0, rows * 1000 / elapsedMs);
+        }
+
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, buffer);
+            rows += buffer.size();
+            buffer.clear();
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.coursemate.config;
 import com.coursemate.entity.*;
 import com.coursemate.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -15,6 +17,7 @@ import java.util.*;
  * Database seeder for initial sample data
  */
 @Component
+@Order(1)
 public class DataSeeder implements CommandLineRunner {
 
     @Autowired
@@ -32,9 +35,27 @@ public class DataSeeder implements CommandLineRunner {
     @Autowired
     private AssessmentRepository assessmentRepository;
 
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Value("${app.seed.benchmark.enabled:false}")
+    private boolean benchmarkDataEnabled;
+
+    @Value("${app.seed.benchmark.students:2000}")
+    private int benchmarkStudents;
+
+    @Value("${app.seed.benchmark.courses:200}")
+    private int benchmarkCourses;
+
+    @Value("${app.seed.benchmark.enrollments-per-student:5}")
+    private int benchmarkEnrollmentsPerStudent;
+
+    @Value("${app.seed.benchmark.assessments-per-course:5}")
+    private int benchmarkAssessmentsPerCourse;
+
     @Override
     public void run(String... args) throws Exception {
         // Check if data already exists
@@ -57,6 +78,11 @@ public class DataSeeder implements CommandLineRunner {
         // Seed assessments
         seedAssessments();
 
+        // Seed bulk data for benchmarks
+        if (benchmarkDataEnabled) {
+            seedBenchmarkData();
+        }
+
         System.out.println("Database seeding completed successfully!");
     }
 
@@ -124,6 +150,7 @@ public class DataSeeder implements CommandLineRunner {
                 instructor1
         );
         course1.setCredits(3);
+        course1.setSeatsTaken(2);
         courseRepository.save(course1);
 
         Course course2 = new Course(
@@ -133,6 +160,7 @@ public class DataSeeder implements CommandLineRunner {
                 instructor1
         );
         course2.setCredits(4);
+        course2.setSeatsTaken(2);
         courseRepository.save(course2);
 
         Course course3 = new Course(
@@ -142,9 +170,10 @@ public class DataSeeder implements CommandLineRunner {
                 instructor2
         );
         course3.setCredits(4);
+        course3.setSeatsTaken(2);
         courseRepository.save(course3);
 
-        // Enroll students in courses
+        // Enroll students in courses; the seat counts above match these rows
         enrollmentRepository.save(new Enrollment(student1, course1));
         enrollmentRepository.save(new Enrollment(student1, course2));
         enrollmentRepository.save(new Enrollment(student2, course1));
@@ -212,6 +241,104 @@ public class DataSeeder implements CommandLineRunner {
         System.out.println("✓ Assessments seeded");
     }
 
+    /**
+     * Seed a larger, deterministic data set used by the JMH benchmarks.
+     * Every student enrolls in a fixed number of courses and submits every
+     * assessment of those courses; half of the submissions are graded.
+     */
+    private void seedBenchmarkData() {
+        User instructor1 = userRepository.findByUsername("instructor1").orElse(null);
+        User instructor2 = userRepository.findByUsername("instructor2").orElse(null);
+        Role studentRole = roleRepository.findByName(Role.RoleType.STUDENT).orElse(null);
+
+        // Hash once; BCrypt per student would dominate seeding time
+        String encodedPassword = passwordEncoder.encode("student123");
+
+        List<User> students = new ArrayList<>();
+        for (int i = 1; i <= benchmarkStudents; i++) {
+            User student = new User("bench.student" + i + "@coursemate.com", "bench_student" + i,
+                    encodedPassword, "Bench", "Student " + i);
+            student.setRoles(new HashSet<>(Collections.singletonList(studentRole)));
+            students.add(student);
+        }
+        students = userRepository.saveAll(students);
+
+        // Student s enrolls in courses s, s+1, ... (mod the course count); count the seats up front
+        int enrollmentsPerStudent = Math.min(benchmarkEnrollmentsPerStudent, benchmarkCourses);
+        int[] seatsTaken = new int[Math.max(benchmarkCourses, 1)];
+        for (int s = 0; s < benchmarkStudents; s++) {
+            for (int e = 0; e < enrollmentsPerStudent; e++) {
+                seatsTaken[(s + e) % benchmarkCourses]++;
+            }
+        }
+
+        List<Course> courses = new ArrayList<>();
+        for (int i = 1; i <= benchmarkCourses; i++) {
+            Course course = new Course(
+                    "Benchmark Course " + i,
+                    "Generated course " + i + " for benchmarking",
+                    "BENCH" + i,
+                    i % 2 == 0 ? instructor2 : instructor1
+            );
+            course.setMaxStudents(benchmarkStudents);
+            course.setSeatsTaken(seatsTaken[i - 1]);
+            courses.add(course);
+        }
+        courses = courseRepository.saveAll(courses);
+
+        Map<Long, List<Assessment>> assessmentsByCourse = new HashMap<>();
+        List<Assessment> assessments = new ArrayList<>();
+        for (Course course : courses) {
+            for (int i = 1; i <= benchmarkAssessmentsPerCourse; i++) {
+                Assessment assessment = new Assessment(
+                        course.getCourseCode() + " Assessment " + i,
+                        "Generated assessment",
+                        Assessment.AssessmentType.values()[i % Assessment.AssessmentType.values().length],
+                        course,
+                        convertLocalDateTimeToDate(LocalDateTime.now().plusDays(i * 7L))
+                );
+                assessment.setIsPublished(true);
+                assessments.add(assessment);
+            }
+        }
+        for (Assessment assessment : assessmentRepository.saveAll(assessments)) {
+            assessmentsByCourse.computeIfAbsent(assessment.getCourse().getId(), id -> new ArrayList<>()).add(assessment);
+        }
+
+        List<Enrollment> enrollments = new ArrayList<>();
+        List<Submission> submissions = new ArrayList<>();
+        for (int s = 0; s < students.size(); s++) {
+            User student = students.get(s);
+            for (int e = 0; e < enrollmentsPerStudent; e++) {
+                Course course = courses.get((s + e) % courses.size());
+                enrollments.add(new Enrollment(student, course));
+
+                for (Assessment assessment : assessmentsByCourse.getOrDefault(course.getId(), Collections.emptyList())) {
+                    Submission submission = new Submission(assessment, student,
+                            "Generated submission by " + student.getUsername());
+                    if ((s + e) % 2 == 0) {
+                        submission.setMarksObtained((double) ((s * 7 + e) % 100));
+                        submission.setStatus(Submission.SubmissionStatus.GRADED);
+                        submission.setGradedAt(new Date());
+                    }
+                    submissions.add(submission);
+                }
+            }
+
+            if (submissions.size() >= 5000) {
+                enrollmentRepository.saveAll(enrollments);
+                submissionRepository.saveAll(submissions);
+                enrollments.clear();
+                submissions.clear();
+            }
+        }
+        enrollmentRepository.saveAll(enrollments);
+        submissionRepository.saveAll(submissions);
+
+        System.out.println("✓ Benchmark data seeded (" + benchmarkStudents + " students, "
+                + benchmarkCourses + " courses)");
+    }
+
     private Date convertLocalDateTimeToDate(LocalDateTime dateTime) {
         return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
     }
@@ -0,0 +1,20 @@
+package com.coursemate.config;
+
+import com.coursemate.id.SnowflakeIdGenerator;
+import com.coursemate.id.SnowflakeIdentifierGenerator;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Makes the Spring-managed Snowflake generator available to the
+ * {@link com.coursemate.id.SnowflakeId} mappings Hibernate instantiates itself
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer snowflakeIdGeneratorCustomizer(SnowflakeIdGenerator idGenerator) {
+        return properties -> properties.put(SnowflakeIdentifierGenerator.GENERATOR_SETTING, idGenerator);
+    }
+}
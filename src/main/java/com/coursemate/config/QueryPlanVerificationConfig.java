@@ -0,0 +1,34 @@
+package com.coursemate.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wiring for the startup query plan check, enabled with app.schema.verify-query-plans.
+ * Wraps the application DataSource so QueryPlanVerifier can capture the SQL
+ * that repository methods execute.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.schema.verify-query-plans", havingValue = "true")
+public class QueryPlanVerificationConfig {
+
+    /**
+     * Wrap the "dataSource" bean (the pool, or the routing proxy with a replica)
+     */
+    @Bean
+    public static BeanPostProcessor statementRecordingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new StatementRecordingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,385 @@
+package com.coursemate.config;
+
+import com.coursemate.config.StatementRecordingDataSource.RecordedStatement;
+import com.coursemate.entity.Assessment;
+import com.coursemate.entity.AssessmentStats;
+import com.coursemate.entity.Course;
+import com.coursemate.entity.Enrollment;
+import com.coursemate.entity.Progress;
+import com.coursemate.entity.Role;
+import com.coursemate.entity.Submission;
+import com.coursemate.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Startup check that repository queries are served by indexes.
+ * Calls every declared query method of every repository with ids sampled from
+ * the database, captures the SQL Hibernate sends for it, and runs EXPLAIN on
+ * that SQL with the same parameters. A plan that full-scans (type ALL) a table
+ * estimated at min-rows rows or more fails startup, unless the method is listed
+ * in app.schema.verify-query-plans.allow; so does a query that cannot be run or
+ * explained. Skipped on an empty database and on databases other than MySQL.
+ * Runs after the other startup tasks. Off by default; the plancheck profile
+ * turns it on for a run against a seeded database.
+ */
+@Component
+@Order(6)
+@ConditionalOnProperty(name = "app.schema.verify-query-plans", havingValue = "true")
+public class QueryPlanVerifier implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryPlanVerifier.class);
+
+    private static final String SAMPLE_QUERY =
+            "SELECT s.id, s.assessment_id, s.student_id, a.course_id, c.instructor_id, c.course_code, " +
+            "u.username, u.email FROM submissions s " +
+            "JOIN assessments a ON a.id = s.assessment_id " +
+            "JOIN courses c ON c.id = a.course_id " +
+            "JOIN users u ON u.id = s.student_id " +
+            "ORDER BY s.id LIMIT 1";
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.schema.verify-query-plans.min-rows:1000}")
+    private long minRows;
+
+    @Value("${app.schema.verify-query-plans.allow:}")
+    private String[] allow;
+
+    @Override
+    public void run(String... args) throws Exception {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(database)) {
+            logger.warn("Query plan verification skipped: EXPLAIN output is only checked on MySQL, not {}", database);
+            return;
+        }
+        SampleIds samples = loadSamples();
+        if (samples == null) {
+            logger.warn("Query plan verification skipped: no submissions to sample ids from, seed the database first");
+            return;
+        }
+
+        Set<String> allowed = new HashSet<>(Arrays.asList(allow));
+        Repositories repositories = new Repositories(applicationContext);
+        List<String> violations = new ArrayList<>();
+        int checked = 0;
+
+        for (Class<?> domainType : repositories) {
+            Class<?> repositoryInterface = repositories.getRepositoryInformationFor(domainType)
+                    .orElseThrow().getRepositoryInterface();
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+
+            for (Method method : repositoryInterface.getDeclaredMethods()) {
+                if (!isQueryMethod(method)) {
+                    continue;
+                }
+                String name = repositoryInterface.getSimpleName() + "." + method.getName();
+                Object[] arguments = sampleArguments(method, domainType, samples);
+                if (arguments == null) {
+                    violations.add(name + " has a parameter type without a sample value");
+                    continue;
+                }
+
+                List<RecordedStatement> statements;
+                try {
+                    statements = capture(repository, method, arguments);
+                } catch (RuntimeException e) {
+                    violations.add(name + " could not be run: " + e.getMessage());
+                    continue;
+                }
+                for (RecordedStatement statement : statements) {
+                    checked++;
+                    List<String> scans;
+                    try {
+                        scans = fullScans(statement);
+                    } catch (RuntimeException e) {
+                        violations.add(name + " could not be explained: " + e.getMessage());
+                        continue;
+                    }
+                    for (String scan : scans) {
+                        if (allowed.contains(name)) {
+                            logger.info("{} scans {} (allowed)", name, scan);
+                        } else {
+                            violations.add(name + " scans " + scan + ": " + statement.getSql());
+                        }
+                    }
+                }
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Repository query plan verification failed:\n  "
+                    + String.join("\n  ", violations));
+        }
+        System.out.println("✓ Query plans verified: " + checked + " statements, no full scans of "
+                + minRows + "+ row tables");
+    }
+
+    // Helper method to select finder/query methods; updates and defaults are not plain reads
+    private boolean isQueryMethod(Method method) {
+        return !method.isDefault()
+                && !method.isSynthetic()
+                && !Modifier.isStatic(method.getModifiers())
+                && !method.isAnnotationPresent(Modifying.class);
+    }
+
+    // Helper method to call a repository method in a rolled-back transaction and capture its SQL
+    private List<RecordedStatement> capture(Object repository, Method method, Object[] arguments) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<RecordedStatement> statements;
+        StatementRecordingDataSource.startRecording();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                try {
+                    consume(method.invoke(repository, arguments));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                } catch (InvocationTargetException e) {
+                    if (e.getTargetException() instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new IllegalStateException(e.getTargetException());
+                }
+            });
+        } finally {
+            statements = StatementRecordingDataSource.stopRecording();
+        }
+        return statements;
+    }
+
+    // Helper method to drain streamed results so their query actually runs
+    private void consume(Object result) {
+        if (result instanceof Stream<?> stream) {
+            try (stream) {
+                stream.forEach(row -> { });
+            }
+        }
+    }
+
+    // Helper method to EXPLAIN a captured SELECT and list the large tables it full-scans
+    private List<String> fullScans(RecordedStatement statement) {
+        String sql = statement.getSql().trim();
+        if (!sql.regionMatches(true, 0, "select", 0, 6)) {
+            return List.of();
+        }
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatementCallback<List<String>>) ps -> {
+            statement.bindTo(ps);
+            List<String> scans = new ArrayList<>();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("table");
+                    long rows = rs.getLong("rows");
+                    // <derivedN>/<subqueryN> are temporary tables built by the plan itself
+                    if ("ALL".equals(rs.getString("type")) && table != null && !table.startsWith("<")
+                            && rows >= minRows) {
+                        scans.add(table + " (~" + rows + " rows)");
+                    }
+                }
+            }
+            return scans;
+        });
+    }
+
+    // Helper method to build an argument list from the parameter types and names
+    private Object[] sampleArguments(Method method, Class<?> domainType, SampleIds samples) {
+        String[] names = parameterNameDiscoverer.getParameterNames(method);
+        Class<?>[] types = method.getParameterTypes();
+        Object[] arguments = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            String name = names != null ? names[i].toLowerCase(Locale.ROOT) : "";
+            Object value = sampleValue(ResolvableType.forMethodParameter(method, i), name, domainType, samples);
+            if (value == null) {
+                return null;
+            }
+            arguments[i] = value;
+        }
+        return arguments;
+    }
+
+    // Helper method to pick a representative value for one parameter
+    private Object sampleValue(ResolvableType type, String name, Class<?> domainType, SampleIds samples) {
+        Class<?> raw = type.resolve(Object.class);
+        if (raw == Long.class || raw == long.class) {
+            return sampleId(name, domainType, samples);
+        }
+        if (raw == String.class) {
+            return sampleString(name, samples);
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            String element = name.endsWith("s") ? name.substring(0, name.length() - 1) : name;
+            Object value = sampleValue(type.asCollection().getGeneric(0), element, domainType, samples);
+            return value != null ? List.of(value) : null;
+        }
+        if (Pageable.class.isAssignableFrom(raw)) {
+            return PageRequest.of(0, 20, Sort.by("id"));
+        }
+        if (raw.isEnum()) {
+            return raw.getEnumConstants()[0];
+        }
+        if (raw == Integer.class || raw == int.class) {
+            return 1;
+        }
+        if (raw == Boolean.class || raw == boolean.class) {
+            return true;
+        }
+        if (raw == Double.class || raw == double.class) {
+            return 0.0;
+        }
+        if (Date.class.isAssignableFrom(raw)) {
+            return new Date();
+        }
+        return null;
+    }
+
+    // Helper method to pick an id by parameter name, falling back to the repository's own entity
+    private Long sampleId(String name, Class<?> domainType, SampleIds samples) {
+        if (name.startsWith("after")) {
+            return 0L;
+        }
+        if (name.startsWith("before")) {
+            return Long.MAX_VALUE;
+        }
+        if (name.contains("assessment")) {
+            return samples.assessmentId;
+        }
+        if (name.contains("course")) {
+            return samples.courseId;
+        }
+        if (name.contains("instructor")) {
+            return samples.instructorId;
+        }
+        if (name.contains("student") || name.contains("user")) {
+            return samples.studentId;
+        }
+        if (domainType == Submission.class) {
+            return samples.submissionId;
+        }
+        if (domainType == Assessment.class || domainType == AssessmentStats.class) {
+            return samples.assessmentId;
+        }
+        if (domainType == Course.class) {
+            return samples.courseId;
+        }
+        if (domainType == Enrollment.class) {
+            return samples.enrollmentId;
+        }
+        if (domainType == Progress.class) {
+            return samples.progressId;
+        }
+        if (domainType == Role.class) {
+            return samples.roleId;
+        }
+        if (domainType == User.class) {
+            return samples.studentId;
+        }
+        return null;
+    }
+
+    // Helper method to pick a string by parameter name; anything else is a search keyword
+    private String sampleString(String name, SampleIds samples) {
+        if (name.contains("username")) {
+            return samples.username;
+        }
+        if (name.contains("email")) {
+            return samples.email;
+        }
+        if (name.contains("code")) {
+            return samples.courseCode;
+        }
+        return "a";
+    }
+
+    // Helper method to read one consistent set of ids (a submission and what it references)
+    private SampleIds loadSamples() {
+        SampleIds samples;
+        try {
+            samples = jdbcTemplate.queryForObject(SAMPLE_QUERY, (rs, rowNum) -> {
+                SampleIds ids = new SampleIds();
+                ids.submissionId = rs.getLong(1);
+                ids.assessmentId = rs.getLong(2);
+                ids.studentId = rs.getLong(3);
+                ids.courseId = rs.getLong(4);
+                ids.instructorId = rs.getLong(5);
+                ids.courseCode = rs.getString(6);
+                ids.username = rs.getString(7);
+                ids.email = rs.getString(8);
+                return ids;
+            });
+        } catch (EmptyResultDataAccessException e) {
+            return null;
+        }
+        samples.enrollmentId = firstId("enrollments");
+        samples.progressId = firstId("progress");
+        samples.roleId = firstId("roles");
+        return samples;
+    }
+
+    // Helper method to read the lowest id of a table (0 when empty; primary key lookups are never scans)
+    private Long firstId(String table) {
+        Long id = jdbcTemplate.queryForObject("SELECT MIN(id) FROM " + table, Long.class);
+        return id != null ? id : 0L;
+    }
+
+    /**
+     * Ids and keys of one seeded submission and the rows it references
+     */
+    private static class SampleIds {
+        long submissionId;
+        long assessmentId;
+        long studentId;
+        long courseId;
+        long instructorId;
+        long enrollmentId;
+        long progressId;
+        long roleId;
+        String courseCode;
+        String username;
+        String email;
+    }
+}
@@ -0,0 +1,54 @@
+package com.coursemate.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends connections for read-only transactions to the replica pool and
+ * everything else to the primary. Reads fall back to the primary while the
+ * lag monitor reports the replica as unavailable or too far behind.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the connection is
+ * only fetched after the transaction's read-only flag has been set.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final AtomicLong primaryConnections = new AtomicLong();
+    private final AtomicLong replicaConnections = new AtomicLong();
+    private final AtomicLong replicaFallbacks = new AtomicLong();
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (lagMonitor.isReplicaAvailable()) {
+                replicaConnections.incrementAndGet();
+                return REPLICA;
+            }
+            replicaFallbacks.incrementAndGet();
+        }
+        primaryConnections.incrementAndGet();
+        return PRIMARY;
+    }
+
+    public long getPrimaryConnections() {
+        return primaryConnections.get();
+    }
+
+    public long getReplicaConnections() {
+        return replicaConnections.get();
+    }
+
+    public long getReplicaFallbacks() {
+        return replicaFallbacks.get();
+    }
+}
@@ -0,0 +1,127 @@
+package com.coursemate.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically measures how far the replica is behind the primary.
+ * The lag query defaults to MySQL's SHOW REPLICA STATUS and reads
+ * Seconds_Behind_Source; any other query must return the lag in seconds in
+ * its first column. A blank query disables the check (e.g. a second local
+ * H2 or MySQL instance used for testing). The replica is taken out of
+ * rotation when it lags more than the tolerance, stops replicating, or the
+ * check fails.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final long checkIntervalMs;
+
+    private ScheduledExecutorService scheduler;
+
+    private volatile boolean replicaAvailable;
+    private volatile Long lastLagSeconds;
+    private volatile long lastCheckedAt;
+    private volatile String lastError;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagSeconds, long checkIntervalMs) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.lagQuery = lagQuery == null ? "" : lagQuery.trim();
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMs = checkIntervalMs;
+        this.replicaAvailable = this.lagQuery.isEmpty();
+    }
+
+    public void start() {
+        if (lagQuery.isEmpty()) {
+            logger.info("Replica lag check disabled; read-only transactions always use the replica");
+            return;
+        }
+        check();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public Long getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    public long getLastCheckedAt() {
+        return lastCheckedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public long getMaxLagSeconds() {
+        return maxLagSeconds;
+    }
+
+    private void check() {
+        boolean wasAvailable = replicaAvailable;
+        try {
+            Long lag = replicaJdbcTemplate.query(lagQuery,
+                    (ResultSetExtractor<Long>) rs -> rs.next() ? readLag(rs) : null);
+            lastLagSeconds = lag;
+            lastError = lag == null ? "Replica is not replicating" : null;
+            replicaAvailable = lag != null && lag <= maxLagSeconds;
+        } catch (RuntimeException e) {
+            lastLagSeconds = null;
+            lastError = e.getMessage();
+            replicaAvailable = false;
+        }
+        lastCheckedAt = System.currentTimeMillis();
+
+        if (wasAvailable != replicaAvailable) {
+            if (replicaAvailable) {
+                logger.info("Replica back in rotation (lag {}s)", lastLagSeconds);
+            } else {
+                logger.warn("Replica out of rotation (lag {}s, max {}s): {}",
+                        lastLagSeconds, maxLagSeconds, lastError);
+            }
+        }
+    }
+
+    // Helper to read the lag column of SHOW REPLICA STATUS, or the first column of a custom query
+    private Long readLag(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            String column = metaData.getColumnLabel(i);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(column) || "Seconds_Behind_Master".equalsIgnoreCase(column)) {
+                long lag = rs.getLong(i);
+                return rs.wasNull() ? null : lag;
+            }
+        }
+        long lag = rs.getLong(1);
+        return rs.wasNull() ? null : lag;
+    }
+}
@@ -0,0 +1,162 @@
+package com.coursemate.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource wrapper that captures prepared statements and their parameter
+ * bindings while recording is switched on for the current thread.
+ * Recorded statements return at most one row, and connections obtained with
+ * recording off are returned untouched.
+ * Used by QueryPlanVerifier to replay repository queries as EXPLAIN.
+ */
+public class StatementRecordingDataSource extends DelegatingDataSource {
+
+    private static final ThreadLocal<List<RecordedStatement>> recording = new ThreadLocal<>();
+
+    public StatementRecordingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * Start capturing statements executed on the current thread
+     */
+    public static void startRecording() {
+        recording.set(new ArrayList<>());
+    }
+
+    /**
+     * Stop capturing and return the statements executed since startRecording
+     */
+    public static List<RecordedStatement> stopRecording() {
+        List<RecordedStatement> statements = recording.get();
+        recording.remove();
+        return statements != null ? statements : List.of();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    // Helper method to record the statements prepared on a connection
+    private Connection wrap(Connection connection) {
+        if (recording.get() == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if ("prepareStatement".equals(method.getName())
+                            && result instanceof PreparedStatement statement
+                            && !(result instanceof CallableStatement)) {
+                        return wrap(statement, (String) args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    // Helper method to record the parameters bound to a statement and each execution
+    private PreparedStatement wrap(PreparedStatement statement, String sql) {
+        List<ParameterBinding> bindings = new ArrayList<>();
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2
+                            && method.getParameterTypes()[0] == int.class) {
+                        bindings.add(new ParameterBinding(method, args.clone()));
+                    } else if ("clearParameters".equals(name)) {
+                        bindings.clear();
+                    } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                        List<RecordedStatement> statements = recording.get();
+                        if (statements != null) {
+                            statements.add(new RecordedStatement(sql, new ArrayList<>(bindings)));
+                            // Only the statement is of interest; keep list queries on large tables cheap
+                            statement.setMaxRows(1);
+                        }
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    // Helper method to call through to the JDBC object and rethrow its own exception
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * An executed statement with the parameter bindings in effect at the time
+     */
+    public static class RecordedStatement {
+
+        private final String sql;
+
+        private final List<ParameterBinding> bindings;
+
+        RecordedStatement(String sql, List<ParameterBinding> bindings) {
+            this.sql = sql;
+            this.bindings = bindings;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        /**
+         * Bind the recorded parameters to another statement with the same placeholders
+         */
+        public void bindTo(PreparedStatement statement) throws SQLException {
+            for (ParameterBinding binding : bindings) {
+                binding.applyTo(statement);
+            }
+        }
+    }
+
+    /**
+     * One PreparedStatement setter call (setLong, setString, setNull, ...)
+     */
+    static class ParameterBinding {
+
+        private final Method setter;
+
+        private final Object[] args;
+
+        ParameterBinding(Method setter, Object[] args) {
+            this.setter = setter;
+            this.args = args;
+        }
+
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                if (e.getTargetException() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw new IllegalStateException(e.getTargetException());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
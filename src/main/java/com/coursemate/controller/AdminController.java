@@ -0,0 +1,223 @@
+package com.coursemate.controller;
+
+import com.coursemate.cache.CourseCatalogCache;
+import com.coursemate.cache.AssessmentCache;
+import com.coursemate.cache.CacheRegistry;
+import com.coursemate.cache.ProgressReadCache;
+import com.coursemate.cache.TwoTierCache;
+import com.coursemate.config.ReadWriteRoutingDataSource;
+import com.coursemate.config.ReplicaLagMonitor;
+import com.coursemate.dto.ApiResponse;
+import com.coursemate.search.CourseAutocompleteIndex;
+import com.coursemate.search.CourseSearchIndex;
+import com.coursemate.security.AuthenticationExecutor;
+import com.coursemate.security.UserPrincipalCache;
+import com.coursemate.service.CourseService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Admin REST Controller
+ * Exposes operational metrics for administrators
+ */
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class AdminController {
+
+    @Autowired
+    private UserPrincipalCache principalCache;
+
+    @Autowired
+    private ProgressReadCache progressReadCache;
+
+    @Autowired
+    private CourseCatalogCache courseCatalogCache;
+
+    @Autowired
+    private AssessmentCache assessmentCache;
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Autowired
+    private CourseSearchIndex courseSearchIndex;
+
+    @Autowired
+    private CourseAutocompleteIndex courseAutocompleteIndex;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private AuthenticationExecutor authenticationExecutor;
+
+    // Present only when app.datasource.replica.enabled=true
+    @Autowired(required = false)
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired(required = false)
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    /**
+     * Get per-tier statistics for every two-tier cache on this node
+     * GET /api/admin/cache
+     */
+    @GetMapping("/cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCacheStats() {
+        Map<String, Object> caches = new LinkedHashMap<>();
+        for (TwoTierCache<?, ?> cache : cacheRegistry.getCaches()) {
+            caches.put(cache.getName(), cache.getStats());
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("nodeId", cacheRegistry.getNodeId());
+        stats.put("caches", caches);
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Cache stats fetched", stats);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Get principal cache statistics
+     * GET /api/admin/cache/principals
+     */
+    @GetMapping("/cache/principals")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPrincipalCacheStats() {
+        Map<String, Object> stats = principalCache.getStats();
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Principal cache stats fetched", stats);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Get progress read cache statistics
+     * GET /api/admin/cache/progress
+     */
+    @GetMapping("/cache/progress")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getProgressCacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", progressReadCache.getSize());
+        stats.put("hits", progressReadCache.getHitCount());
+        stats.put("misses", progressReadCache.getMissCount());
+        stats.put("evictions", progressReadCache.getEvictionCount());
+        stats.put("hitRatio", progressReadCache.getHitRatio());
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Progress cache stats fetched", stats);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Get course catalog cache statistics, one entry per cache
+     * GET /api/admin/cache/courses
+     */
+    @GetMapping("/cache/courses")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCourseCacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (TwoTierCache<?, ?> cache : courseCatalogCache.getCaches()) {
+            stats.put(cache.getName(), cache.getStats());
+        }
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Course cache stats fetched", stats);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Get assessment cache statistics, one entry per cache
+     * GET /api/admin/cache/assessments
+     */
+    @GetMapping("/cache/assessments")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getAssessmentCacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (TwoTierCache<?, ?> cache : assessmentCache.getCaches()) {
+            stats.put(cache.getName(), cache.getStats());
+        }
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Assessment cache stats fetched", stats);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Get authentication executor load and rejection counts
+     * GET /api/admin/auth/executor
+     */
+    @GetMapping("/auth/executor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getAuthenticationExecutorStats() {
+        Map<String, Object> stats = authenticationExecutor.getStats();
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Authentication executor stats fetched", stats);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Get read/write routing counters and replica lag
+     * GET /api/admin/datasource
+     */
+    @GetMapping("/datasource")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getDataSourceStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("replicaEnabled", routingDataSource != null);
+        if (routingDataSource != null) {
+            stats.put("primaryConnections", routingDataSource.getPrimaryConnections());
+            stats.put("replicaConnections", routingDataSource.getReplicaConnections());
+            stats.put("replicaFallbacks", routingDataSource.getReplicaFallbacks());
+            stats.put("replicaAvailable", replicaLagMonitor.isReplicaAvailable());
+            stats.put("replicaLagSeconds", replicaLagMonitor.getLastLagSeconds());
+            stats.put("maxLagSeconds", replicaLagMonitor.getMaxLagSeconds());
+            stats.put("lastCheckedAt", replicaLagMonitor.getLastCheckedAt());
+            stats.put("lastError", replicaLagMonitor.getLastError());
+        }
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Datasource stats fetched", stats);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Get course search index status
+     * GET /api/admin/search/courses
+     */
+    @GetMapping("/search/courses")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCourseSearchIndexStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", courseSearchIndex.isEnabled());
+        stats.put("autocompleteEntries", courseAutocompleteIndex.getSize());
+        stats.put("documents", courseSearchIndex.getDocumentCount());
+        stats.put("lastRebuildAt", courseSearchIndex.getLastRebuildAt());
+        stats.put("lastRebuildMs", courseSearchIndex.getLastRebuildMs());
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Course search index stats fetched", stats);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Rebuild the course search index from the database on every node
+     * POST /api/admin/search/courses/rebuild
+     */
+    @PostMapping("/search/courses/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> rebuildCourseSearchIndex() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("indexed", courseService.rebuildSearchIndex());
+        result.put("durationMs", courseSearchIndex.getLastRebuildMs());
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Course search index rebuilt", result);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Recount every course's seat counter from its active enrollments
+     * POST /api/admin/courses/seats/resync
+     */
+    @PostMapping("/courses/seats/resync")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> resyncSeatCounts() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("coursesUpdated", courseService.resyncSeatCounts());
+        ApiResponse<Map<String, Object>> response = new ApiResponse<>(true, "Seat counters resynchronized", result);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+}
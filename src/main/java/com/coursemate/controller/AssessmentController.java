@@ -2,6 +2,7 @@ package com.coursemate.controller;
 
 import com.coursemate.dto.AssessmentDTO;
 import com.coursemate.dto.ApiResponse;
+import com.coursemate.dto.AssessmentStatsDTO;
 import com.coursemate.service.AssessmentService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,6 +49,18 @@ public class AssessmentController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    /**
+     * Get submission statistics for an assessment
+     * GET /api/assessments/{id}/stats
+     */
+    @GetMapping("/{id}/stats")
+    @PreAuthorize("hasAnyRole('ADMIN', 'INSTRUCTOR')")
+    public ResponseEntity<ApiResponse<AssessmentStatsDTO>> getAssessmentStats(@PathVariable Long id) {
+        AssessmentStatsDTO stats = assessmentService.getAssessmentStats(id);
+        ApiResponse<AssessmentStatsDTO> response = new ApiResponse<>(true, "Assessment statistics fetched", stats);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     /**
      * Update assessment
      * PUT /api/assessments/{id}
@@ -4,6 +4,7 @@ import com.coursemate.dto.LoginRequest;
 import com.coursemate.dto.RegisterRequest;
 import com.coursemate.dto.AuthResponse;
 import com.coursemate.dto.ApiResponse;
+import com.coursemate.security.AuthenticationExecutor;
 import com.coursemate.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +12,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Authentication REST Controller
  * Handles user registration, login, and token refresh
@@ -23,26 +26,31 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private AuthenticationExecutor authenticationExecutor;
+
     /**
-     * Register a new user
+     * Register a new user; password hashing runs on the authentication executor
      * POST /api/auth/register
      */
     @PostMapping("/register")
-    public ResponseEntity<ApiResponse<AuthResponse>> register(@Valid @RequestBody RegisterRequest registerRequest) {
-        AuthResponse authResponse = authService.register(registerRequest);
-        ApiResponse<AuthResponse> response = new ApiResponse<>(true, "User registered successfully", authResponse);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    public CompletableFuture<ResponseEntity<ApiResponse<AuthResponse>>> register(
+            @Valid @RequestBody RegisterRequest registerRequest) {
+        return authenticationExecutor.submit(() -> authService.register(registerRequest))
+                .thenApply(authResponse -> new ResponseEntity<>(
+                        new ApiResponse<>(true, "User registered successfully", authResponse), HttpStatus.CREATED));
     }
 
     /**
-     * Login user
+     * Login user; the password check runs on the authentication executor
      * POST /api/auth/login
      */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
-        AuthResponse authResponse = authService.login(loginRequest);
-        ApiResponse<AuthResponse> response = new ApiResponse<>(true, "Login successful", authResponse);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+    public CompletableFuture<ResponseEntity<ApiResponse<AuthResponse>>> login(
+            @Valid @RequestBody LoginRequest loginRequest) {
+        return authenticationExecutor.submit(() -> authService.login(loginRequest))
+                .thenApply(authResponse -> new ResponseEntity<>(
+                        new ApiResponse<>(true, "Login successful", authResponse), HttpStatus.OK));
     }
 
     /**
@@ -2,6 +2,9 @@ package com.coursemate.controller;
 
 import com.coursemate.dto.CourseDTO;
 import com.coursemate.dto.ApiResponse;
+import com.coursemate.dto.CourseSuggestionDTO;
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.PageQuery;
 import com.coursemate.security.UserPrincipal;
 import com.coursemate.service.CourseService;
 import jakarta.validation.Valid;
@@ -79,13 +82,15 @@ public class CourseController {
     }
 
     /**
-     * Get all courses
-     * GET /api/courses/all
+     * Get all courses, one page at a time
+     * GET /api/courses/list/all?cursor={cursor}&size={size}
+     * GET /api/courses/list/all?page={page}&size={size}&sort={field}&direction={asc|desc}
      */
     @GetMapping("/list/all")
-    public ResponseEntity<ApiResponse<List<CourseDTO>>> getAllCourses() {
-        List<CourseDTO> courses = courseService.getAllCourses();
-        ApiResponse<List<CourseDTO>> response = new ApiResponse<>(true, "Courses fetched successfully", courses);
+    public ResponseEntity<ApiResponse<List<CourseDTO>>> getAllCourses(PageQuery pageQuery) {
+        CursorPage<CourseDTO> courses = courseService.getCourses(pageQuery);
+        ApiResponse<List<CourseDTO>> response = new ApiResponse<>(true, "Courses fetched successfully",
+                courses.getItems(), courses.getPageInfo());
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
@@ -126,13 +131,29 @@ public class CourseController {
     }
 
     /**
-     * Search courses by keyword
-     * GET /api/courses/search?keyword={keyword}
+     * Search courses by keyword, best matches first
+     * GET /api/courses/search?keyword={keyword}&cursor={cursor}&size={size}
+     * GET /api/courses/search?keyword={keyword}&page={page}&size={size}
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<CourseDTO>>> searchCourses(@RequestParam String keyword) {
-        List<CourseDTO> courses = courseService.searchCourses(keyword);
-        ApiResponse<List<CourseDTO>> response = new ApiResponse<>(true, "Search results fetched successfully", courses);
+    public ResponseEntity<ApiResponse<List<CourseDTO>>> searchCourses(@RequestParam String keyword,
+                                                                      PageQuery pageQuery) {
+        CursorPage<CourseDTO> courses = courseService.searchCourses(keyword, pageQuery);
+        ApiResponse<List<CourseDTO>> response = new ApiResponse<>(true, "Search results fetched successfully",
+                courses.getItems(), courses.getPageInfo());
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Typeahead suggestions for course codes and titles
+     * GET /api/courses/autocomplete?q={prefix}&limit={limit}
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<CourseSuggestionDTO>>> autocompleteCourses(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<CourseSuggestionDTO> suggestions = courseService.autocompleteCourses(prefix, limit);
+        ApiResponse<List<CourseSuggestionDTO>> response = new ApiResponse<>(true, "Suggestions fetched", suggestions);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
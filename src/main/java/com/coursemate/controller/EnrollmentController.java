@@ -1,16 +1,28 @@
 package com.coursemate.controller;
 
+import com.coursemate.dto.BulkEnrollmentRequest;
+import com.coursemate.dto.BulkOperationReport;
 import com.coursemate.dto.EnrollmentDTO;
+import com.coursemate.dto.EnrollmentTicketDTO;
 import com.coursemate.dto.ApiResponse;
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.PageQuery;
 import com.coursemate.security.UserPrincipal;
+import com.coursemate.exception.ResourceNotFoundException;
+import com.coursemate.service.EnrollmentQueueService;
 import com.coursemate.service.EnrollmentService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 import java.util.List;
 
@@ -26,6 +38,9 @@ public class EnrollmentController {
     @Autowired
     private EnrollmentService enrollmentService;
 
+    @Autowired
+    private EnrollmentQueueService enrollmentQueueService;
+
     /**
      * Enroll student in course
      * POST /api/enrollments
@@ -40,6 +55,71 @@ public class EnrollmentController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * Enroll a list of students into a course
+     * POST /api/enrollments/bulk/course/{courseId}
+     */
+    @PostMapping("/bulk/course/{courseId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BulkOperationReport>> bulkEnroll(
+            @PathVariable Long courseId,
+            @Valid @RequestBody BulkEnrollmentRequest request) {
+        BulkOperationReport report = enrollmentService.bulkEnroll(courseId, request.getStudentIds());
+        ApiResponse<BulkOperationReport> response = new ApiResponse<>(true, "Bulk enrollment processed", report);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Enroll students listed in a CSV upload (student id in the first column)
+     * POST /api/enrollments/bulk/course/{courseId}/csv
+     */
+    @PostMapping(value = "/bulk/course/{courseId}/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BulkOperationReport>> bulkEnrollFromCsv(
+            @PathVariable Long courseId,
+            @RequestParam("file") MultipartFile file) throws IOException {
+        BulkOperationReport report;
+        try (InputStream csv = file.getInputStream()) {
+            report = enrollmentService.bulkEnrollFromCsv(courseId, csv);
+        }
+        ApiResponse<BulkOperationReport> response = new ApiResponse<>(true, "Bulk enrollment processed", report);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Queue an enrollment request during a registration rush
+     * POST /api/enrollments/queue?courseId={courseId}
+     * Returns 202 with a ticket; 503 with Retry-After when the queue is full
+     */
+    @PostMapping("/queue")
+    @PreAuthorize("hasRole('STUDENT')")
+    public ResponseEntity<ApiResponse<EnrollmentTicketDTO>> queueEnrollment(
+            @RequestParam Long courseId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        EnrollmentTicketDTO ticket = enrollmentQueueService.submit(currentUser.getId(), courseId);
+        ApiResponse<EnrollmentTicketDTO> response = new ApiResponse<>(true, "Enrollment request queued", ticket);
+        return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * Get the status of a queued enrollment request
+     * GET /api/enrollments/queue/{ticketId}
+     */
+    @GetMapping("/queue/{ticketId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'STUDENT')")
+    public ResponseEntity<ApiResponse<EnrollmentTicketDTO>> getEnrollmentTicket(
+            @PathVariable String ticketId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        EnrollmentTicketDTO ticket = enrollmentQueueService.getTicket(ticketId);
+        boolean isAdmin = currentUser.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        if (!isAdmin && !ticket.getStudentId().equals(currentUser.getId())) {
+            throw ResourceNotFoundException.of("Enrollment ticket", "id", ticketId);
+        }
+        ApiResponse<EnrollmentTicketDTO> response = new ApiResponse<>(true, "Enrollment ticket fetched", ticket);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     /**
      * Get enrollment by ID
      * GET /api/enrollments/{id}
@@ -91,14 +171,16 @@ public class EnrollmentController {
     }
 
     /**
-     * Get course enrollments
-     * GET /api/enrollments/course/{courseId}
+     * Get course enrollments, one page at a time
+     * GET /api/enrollments/course/{courseId}?cursor={cursor}&size={size}
      */
     @GetMapping("/course/{courseId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'INSTRUCTOR')")
-    public ResponseEntity<ApiResponse<List<EnrollmentDTO>>> getEnrollmentsByCourse(@PathVariable Long courseId) {
-        List<EnrollmentDTO> enrollments = enrollmentService.getEnrollmentsByCourse(courseId);
-        ApiResponse<List<EnrollmentDTO>> response = new ApiResponse<>(true, "Course enrollments fetched", enrollments);
+    public ResponseEntity<ApiResponse<List<EnrollmentDTO>>> getEnrollmentsByCourse(
+            @PathVariable Long courseId, PageQuery pageQuery) {
+        CursorPage<EnrollmentDTO> enrollments = enrollmentService.getEnrollmentsByCourse(courseId, pageQuery);
+        ApiResponse<List<EnrollmentDTO>> response = new ApiResponse<>(true, "Course enrollments fetched",
+                enrollments.getItems(), enrollments.getPageInfo());
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
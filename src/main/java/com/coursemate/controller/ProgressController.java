@@ -6,12 +6,16 @@ import com.coursemate.security.UserPrincipal;
 import com.coursemate.service.ProgressService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -131,14 +135,52 @@ public class ProgressController {
     /**
      * Get current user progress in course
      * GET /api/progress/my-progress/{courseId}
+     * Returns 304 when If-None-Match matches the current ETag
      */
     @GetMapping("/my-progress/{courseId}")
     @PreAuthorize("hasRole('STUDENT')")
     public ResponseEntity<ApiResponse<ProgressDTO>> getCurrentUserProgress(
+            @PathVariable Long courseId,
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            WebRequest request) {
+        ProgressDTO progress = progressService.getMyProgress(currentUser.getId(), courseId);
+        String etag = progressEtag(progress);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        ApiResponse<ProgressDTO> response = new ApiResponse<>(true, "Your progress fetched successfully", progress);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
+    }
+
+    /**
+     * Recalculate current user progress in course from their submissions
+     * POST /api/progress/my-progress/{courseId}/recalculate
+     */
+    @PostMapping("/my-progress/{courseId}/recalculate")
+    @PreAuthorize("hasRole('STUDENT')")
+    public ResponseEntity<ApiResponse<ProgressDTO>> recalculateCurrentUserProgress(
             @PathVariable Long courseId,
             @AuthenticationPrincipal UserPrincipal currentUser) {
         ProgressDTO progress = progressService.calculateProgress(currentUser.getId(), courseId);
-        ApiResponse<ProgressDTO> response = new ApiResponse<>(true, "Your progress fetched successfully", progress);
+        ApiResponse<ProgressDTO> response = new ApiResponse<>(true, "Your progress recalculated successfully", progress);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
+
+    // Helper to derive the ETag from the fields the response shows, not from the DTO's toString()
+    private static String progressEtag(ProgressDTO progress) {
+        String version = String.join("|",
+                String.valueOf(progress.getId()),
+                String.valueOf(progress.getTotalAssignmentsSubmitted()),
+                String.valueOf(progress.getTotalAssignmentsAssigned()),
+                String.valueOf(progress.getCompletionPercentage()),
+                String.valueOf(progress.getAverageScore()),
+                String.valueOf(progress.getStatus()),
+                String.valueOf(progress.getLastUpdated()),
+                String.valueOf(progress.getStudentName()),
+                String.valueOf(progress.getCourseName()));
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
 }
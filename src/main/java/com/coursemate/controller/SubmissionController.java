@@ -2,16 +2,28 @@ package com.coursemate.controller;
 
 import com.coursemate.dto.SubmissionDTO;
 import com.coursemate.dto.ApiResponse;
+import com.coursemate.dto.BulkGradingRequest;
+import com.coursemate.dto.BulkOperationReport;
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.ExportFormat;
+import com.coursemate.dto.PageQuery;
 import com.coursemate.security.UserPrincipal;
 import com.coursemate.service.SubmissionService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -65,6 +77,35 @@ public class SubmissionController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    /**
+     * Grade many submissions in one request
+     * POST /api/submissions/grade/bulk
+     */
+    @PostMapping("/grade/bulk")
+    @PreAuthorize("hasRole('INSTRUCTOR')")
+    public ResponseEntity<ApiResponse<BulkOperationReport>> bulkGrade(
+            @Valid @RequestBody BulkGradingRequest request) {
+        BulkOperationReport report = submissionService.bulkGrade(request.getGrades());
+        ApiResponse<BulkOperationReport> response = new ApiResponse<>(true, "Bulk grading processed", report);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Grade submissions listed in a CSV upload (submissionId,marks,feedback)
+     * POST /api/submissions/grade/bulk/csv
+     */
+    @PostMapping(value = "/grade/bulk/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('INSTRUCTOR')")
+    public ResponseEntity<ApiResponse<BulkOperationReport>> bulkGradeFromCsv(
+            @RequestParam("file") MultipartFile file) throws IOException {
+        BulkOperationReport report;
+        try (InputStream csv = file.getInputStream()) {
+            report = submissionService.bulkGradeFromCsv(csv);
+        }
+        ApiResponse<BulkOperationReport> response = new ApiResponse<>(true, "Bulk grading processed", report);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     /**
      * Delete submission
      * DELETE /api/submissions/{id}
@@ -78,17 +119,40 @@ public class SubmissionController {
     }
 
     /**
-     * Get submissions by assessment
-     * GET /api/submissions/assessment/{assessmentId}
+     * Get submissions by assessment, one page at a time
+     * GET /api/submissions/assessment/{assessmentId}?cursor={cursor}&size={size}
      */
     @GetMapping("/assessment/{assessmentId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'INSTRUCTOR')")
-    public ResponseEntity<ApiResponse<List<SubmissionDTO>>> getSubmissionsByAssessment(@PathVariable Long assessmentId) {
-        List<SubmissionDTO> submissions = submissionService.getSubmissionsByAssessment(assessmentId);
-        ApiResponse<List<SubmissionDTO>> response = new ApiResponse<>(true, "Submissions fetched successfully", submissions);
+    public ResponseEntity<ApiResponse<List<SubmissionDTO>>> getSubmissionsByAssessment(
+            @PathVariable Long assessmentId, PageQuery pageQuery) {
+        CursorPage<SubmissionDTO> submissions = submissionService.getSubmissionsByAssessment(assessmentId, pageQuery);
+        ApiResponse<List<SubmissionDTO>> response = new ApiResponse<>(true, "Submissions fetched successfully",
+                submissions.getItems(), submissions.getPageInfo());
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    /**
+     * Stream the grade sheet of an assessment as CSV or NDJSON
+     * GET /api/submissions/assessment/{assessmentId}/export?format={csv|ndjson}
+     */
+    @GetMapping("/assessment/{assessmentId}/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'INSTRUCTOR')")
+    public ResponseEntity<StreamingResponseBody> exportSubmissionsByAssessment(
+            @PathVariable Long assessmentId,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        String fileName = submissionService.getExportFileName(assessmentId, exportFormat);
+
+        StreamingResponseBody body = out ->
+                submissionService.exportSubmissionsByAssessment(assessmentId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
     /**
      * Get student submissions
      * GET /api/submissions/student/{studentId}
@@ -2,15 +2,25 @@ package com.coursemate.controller;
 
 import com.coursemate.dto.UserDTO;
 import com.coursemate.dto.ApiResponse;
+import com.coursemate.dto.BulkOperationReport;
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.ExportFormat;
+import com.coursemate.dto.PageQuery;
+import com.coursemate.service.UserImportService;
 import com.coursemate.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 
 /**
  * User REST Controller
@@ -24,6 +34,9 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserImportService userImportService;
+
     /**
      * Get user by ID
      * GET /api/users/{id}
@@ -72,6 +85,48 @@ public class UserController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    /**
+     * Activate or deactivate a user; deactivation revokes their tokens
+     * PUT /api/users/{id}/status?active=false
+     */
+    @PutMapping("/{id}/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<UserDTO>> setUserActive(@PathVariable Long id, @RequestParam boolean active) {
+        UserDTO updatedUser = userService.setUserActive(id, active);
+        ApiResponse<UserDTO> response = new ApiResponse<>(true, "User status updated successfully", updatedUser);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Replace a user's roles and revoke their tokens
+     * PUT /api/users/{id}/roles
+     */
+    @PutMapping("/{id}/roles")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<UserDTO>> updateUserRoles(@PathVariable Long id, @RequestBody Set<String> roles) {
+        UserDTO updatedUser = userService.updateUserRoles(id, roles);
+        ApiResponse<UserDTO> response = new ApiResponse<>(true, "User roles updated successfully", updatedUser);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Import users from a CSV (with header) or NDJSON upload
+     * POST /api/users/import?format=csv|ndjson
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BulkOperationReport>> importUsers(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "csv") String format) throws IOException {
+        ExportFormat importFormat = ExportFormat.fromParam(format);
+        BulkOperationReport report;
+        try (InputStream in = file.getInputStream()) {
+            report = userImportService.importUsers(in, importFormat);
+        }
+        ApiResponse<BulkOperationReport> response = new ApiResponse<>(true, "User import processed", report);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     /**
      * Get all instructors
      * GET /api/users/instructors/all
@@ -85,26 +140,28 @@ public class UserController {
     }
 
     /**
-     * Get all students
-     * GET /api/users/students/all
+     * Get all students, one page at a time
+     * GET /api/users/students/all?cursor={cursor}&size={size}
      */
     @GetMapping("/students/all")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<UserDTO>>> getAllStudents() {
-        List<UserDTO> students = userService.getAllStudents();
-        ApiResponse<List<UserDTO>> response = new ApiResponse<>(true, "Students fetched successfully", students);
+    public ResponseEntity<ApiResponse<List<UserDTO>>> getAllStudents(PageQuery pageQuery) {
+        CursorPage<UserDTO> students = userService.getStudents(pageQuery);
+        ApiResponse<List<UserDTO>> response = new ApiResponse<>(true, "Students fetched successfully",
+                students.getItems(), students.getPageInfo());
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
     /**
-     * Get all users
-     * GET /api/users/all
+     * Get all users, one page at a time
+     * GET /api/users/all?cursor={cursor}&size={size}
      */
     @GetMapping("/all")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<UserDTO>>> getAllUsers() {
-        List<UserDTO> users = userService.getAllUsers();
-        ApiResponse<List<UserDTO>> response = new ApiResponse<>(true, "Users fetched successfully", users);
+    public ResponseEntity<ApiResponse<List<UserDTO>>> getAllUsers(PageQuery pageQuery) {
+        CursorPage<UserDTO> users = userService.getUsers(pageQuery);
+        ApiResponse<List<UserDTO>> response = new ApiResponse<>(true, "Users fetched successfully",
+                users.getItems(), users.getPageInfo());
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 }
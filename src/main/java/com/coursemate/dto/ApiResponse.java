@@ -1,5 +1,6 @@
 package com.coursemate.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,6 +18,9 @@ public class ApiResponse<T> {
     private T data;
     private Long timestamp;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PageInfo page;
+
     public ApiResponse(boolean success, String message) {
         this.success = success;
         this.message = message;
@@ -29,4 +33,12 @@ public class ApiResponse<T> {
         this.data = data;
         this.timestamp = System.currentTimeMillis();
     }
+
+    public ApiResponse(boolean success, String message, T data, PageInfo page) {
+        this.success = success;
+        this.message = message;
+        this.data = data;
+        this.page = page;
+        this.timestamp = System.currentTimeMillis();
+    }
 }
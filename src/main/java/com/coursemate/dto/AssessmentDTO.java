@@ -1,10 +1,13 @@
 package com.coursemate.dto;
 
+import com.coursemate.entity.Assessment;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
 
 /**
  * DTO for creating/updating assessments
@@ -41,4 +44,23 @@ public class AssessmentDTO {
     private Boolean isPublished;
 
     private Integer submissionCount;
+
+    /**
+     * Projection constructor used by AssessmentRepository list queries
+     */
+    public AssessmentDTO(Long id, String title, String description, Assessment.AssessmentType type, Long courseId,
+                         String courseName, Double totalMarks, Double passingMarks, Date dueDate,
+                         Boolean isPublished, Long submissionCount) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.type = type != null ? type.toString() : null;
+        this.courseId = courseId;
+        this.courseName = courseName;
+        this.totalMarks = totalMarks;
+        this.passingMarks = passingMarks;
+        this.dueDate = dueDate != null ? dueDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime() : null;
+        this.isPublished = isPublished;
+        this.submissionCount = submissionCount != null ? submissionCount.intValue() : 0;
+    }
 }
@@ -0,0 +1,33 @@
+package com.coursemate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for per-assessment submission statistics
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssessmentStatsDTO {
+
+    private Long assessmentId;
+
+    private Long submissionCount;
+
+    private Long gradedCount;
+
+    private Long lateCount;
+
+    private Double averageMarks;
+
+    private Double minMarks;
+
+    private Double maxMarks;
+
+    private Double standardDeviation;
+
+    private LocalDateTime lastUpdated;
+}
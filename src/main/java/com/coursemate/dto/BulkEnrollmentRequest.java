@@ -0,0 +1,20 @@
+package com.coursemate.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for enrolling a list of students into one course
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEnrollmentRequest {
+
+    @NotEmpty(message = "Student IDs are required")
+    private List<Long> studentIds;
+}
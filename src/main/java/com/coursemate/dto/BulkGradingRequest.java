@@ -0,0 +1,20 @@
+package com.coursemate.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for grading many submissions in one request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkGradingRequest {
+
+    @NotEmpty(message = "Grades are required")
+    private List<GradeRequest> grades;
+}
@@ -0,0 +1,45 @@
+package com.coursemate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Per-row report returned by bulk endpoints
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationReport {
+
+    private int total;
+
+    private int succeeded;
+
+    private int skipped;
+
+    private int rejected;
+
+    private long durationMs;
+
+    private List<BulkRowResult> results;
+
+    public static BulkOperationReport of(List<BulkRowResult> results, long startedAt) {
+        results.sort(Comparator.comparingInt(BulkRowResult::getRow));
+        int succeeded = 0;
+        int skipped = 0;
+        int rejected = 0;
+        for (BulkRowResult result : results) {
+            switch (result.getStatus()) {
+                case BulkRowResult.CREATED, BulkRowResult.UPDATED -> succeeded++;
+                case BulkRowResult.SKIPPED -> skipped++;
+                default -> rejected++;
+            }
+        }
+        return new BulkOperationReport(results.size(), succeeded, skipped, rejected,
+                System.currentTimeMillis() - startedAt, results);
+    }
+}
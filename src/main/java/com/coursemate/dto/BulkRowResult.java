@@ -0,0 +1,29 @@
+package com.coursemate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one row of a bulk operation
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRowResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String SKIPPED = "SKIPPED";
+    public static final String REJECTED = "REJECTED";
+
+    private int row;
+
+    private String key;
+
+    private String status;
+
+    private String message;
+
+    private Long id;
+}
@@ -37,4 +37,22 @@ public class CourseDTO {
     private String instructorName;
 
     private Integer enrolledStudentsCount;
+
+    /**
+     * Projection constructor used by CourseRepository list queries
+     */
+    public CourseDTO(Long id, String title, String description, String courseCode, Integer credits,
+                     Integer maxStudents, Boolean isActive, Long instructorId, String instructorFirstName,
+                     String instructorLastName, Long enrolledStudentsCount) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.courseCode = courseCode;
+        this.credits = credits;
+        this.maxStudents = maxStudents;
+        this.isActive = isActive;
+        this.instructorId = instructorId;
+        this.instructorName = instructorFirstName + " " + instructorLastName;
+        this.enrolledStudentsCount = enrolledStudentsCount != null ? enrolledStudentsCount.intValue() : 0;
+    }
 }
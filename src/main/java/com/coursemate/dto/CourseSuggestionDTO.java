@@ -0,0 +1,20 @@
+package com.coursemate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for course autocomplete suggestions
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseSuggestionDTO {
+
+    private Long id;
+
+    private String courseCode;
+
+    private String title;
+}
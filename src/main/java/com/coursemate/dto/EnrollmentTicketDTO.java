@@ -0,0 +1,35 @@
+package com.coursemate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Status of a queued enrollment request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentTicketDTO {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String ENROLLED = "ENROLLED";
+    public static final String REJECTED = "REJECTED";
+    public static final String FAILED = "FAILED";
+
+    private String ticketId;
+
+    private Long studentId;
+
+    private Long courseId;
+
+    private String status;
+
+    private String message;
+
+    private EnrollmentDTO enrollment;
+
+    private String submittedAt;
+
+    private String completedAt;
+}
@@ -0,0 +1,20 @@
+package com.coursemate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of a bulk grading request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GradeRequest {
+
+    private Long submissionId;
+
+    private Double marksObtained;
+
+    private String feedback;
+}
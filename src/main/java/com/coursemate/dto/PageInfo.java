@@ -0,0 +1,27 @@
+package com.coursemate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Paging metadata returned alongside list responses.
+ * Keyset pages fill nextCursor/hasNext; offset pages also fill page and totals.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageInfo {
+
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    private Integer size;
+
+    private Integer page;
+
+    private Long totalElements;
+
+    private Integer totalPages;
+}
@@ -0,0 +1,45 @@
+package com.coursemate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Paging parameters accepted by list endpoints.
+ * Without a page number the endpoint uses keyset paging on id, continuing
+ * after the opaque cursor; with a page number it uses offset paging and
+ * honours the sort field.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageQuery {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 500;
+
+    private String cursor;
+
+    private Integer page;
+
+    private Integer size = DEFAULT_SIZE;
+
+    private String sort = "id";
+
+    private String direction = "asc";
+
+    public boolean isOffset() {
+        return page != null;
+    }
+
+    public boolean isDescending() {
+        return "desc".equalsIgnoreCase(direction);
+    }
+
+    public int limit() {
+        if (size == null || size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
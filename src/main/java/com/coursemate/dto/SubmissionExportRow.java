@@ -0,0 +1,68 @@
+package com.coursemate.dto;
+
+import com.coursemate.entity.Submission;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+/**
+ * One grade sheet row of a submission export.
+ * Projected straight from the query, so submission content is never loaded.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionExportRow {
+
+    public static final String[] CSV_HEADER = {
+            "submissionId", "studentId", "username", "studentName", "marksObtained",
+            "feedback", "submittedAt", "gradedAt", "status"
+    };
+
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    private Long submissionId;
+
+    private Long studentId;
+
+    private String username;
+
+    private String studentName;
+
+    private Double marksObtained;
+
+    private String feedback;
+
+    private String submittedAt;
+
+    private String gradedAt;
+
+    private String status;
+
+    /**
+     * Constructor used by the JPQL export projection
+     */
+    public SubmissionExportRow(Long submissionId, Long studentId, String username, String firstName,
+                               String lastName, Double marksObtained, String feedback, Date submittedAt,
+                               Date gradedAt, Submission.SubmissionStatus status) {
+        this.submissionId = submissionId;
+        this.studentId = studentId;
+        this.username = username;
+        this.studentName = firstName + " " + lastName;
+        this.marksObtained = marksObtained;
+        this.feedback = feedback;
+        this.submittedAt = submittedAt != null ? DATE_FORMAT.format(submittedAt.toInstant()) : null;
+        this.gradedAt = gradedAt != null ? DATE_FORMAT.format(gradedAt.toInstant()) : null;
+        this.status = status != null ? status.toString() : null;
+    }
+
+    public Object[] toCsvValues() {
+        return new Object[]{submissionId, studentId, username, studentName, marksObtained,
+                feedback, submittedAt, gradedAt, status};
+    }
+}
@@ -0,0 +1,107 @@
+package com.coursemate.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.Date;
+
+/**
+ * Running submission statistics for one assessment.
+ * Kept current from submission events so count, average and spread are
+ * read from a single row instead of aggregating the submissions table.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "assessment_stats")
+public class AssessmentStats {
+
+    // A removed mark this close to an extreme forces a recompute, so rounding never leaves a stale min or max
+    private static final double EXTREME_TOLERANCE = 1e-6;
+
+    @Id
+    @Column(name = "assessment_id")
+    private Long assessmentId;
+
+    @Column(nullable = false)
+    private Long submissionCount = 0L;
+
+    @Column(nullable = false)
+    private Long gradedCount = 0L;
+
+    @Column(nullable = false)
+    private Long lateCount = 0L;
+
+    @Column(nullable = false)
+    private Double marksSum = 0.0;
+
+    @Column(nullable = false)
+    private Double marksSumOfSquares = 0.0;
+
+    private Double minMarks;
+
+    private Double maxMarks;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date lastUpdated = new Date();
+
+    public AssessmentStats(Long assessmentId) {
+        this.assessmentId = assessmentId;
+    }
+
+    /**
+     * Average of graded marks, 0 when nothing is graded yet
+     */
+    public Double getAverageMarks() {
+        return gradedCount > 0 ? marksSum / gradedCount : 0.0;
+    }
+
+    /**
+     * Population standard deviation of graded marks
+     */
+    public Double getStandardDeviation() {
+        if (gradedCount == 0) {
+            return 0.0;
+        }
+        double mean = marksSum / gradedCount;
+        return Math.sqrt(Math.max(0.0, marksSumOfSquares / gradedCount - mean * mean));
+    }
+
+    /**
+     * Add a graded mark to the running totals
+     */
+    public void addGrade(double marks) {
+        gradedCount++;
+        marksSum += marks;
+        marksSumOfSquares += marks * marks;
+        minMarks = minMarks == null ? marks : Math.min(minMarks, marks);
+        maxMarks = maxMarks == null ? marks : Math.max(maxMarks, marks);
+    }
+
+    /**
+     * Remove a graded mark from the running totals.
+     * Returns true when the mark was at (or within rounding of) the current
+     * min or max, which then has to be recomputed from the remaining submissions.
+     */
+    public boolean removeGrade(double marks) {
+        gradedCount = Math.max(0, gradedCount - 1);
+        marksSum -= marks;
+        marksSumOfSquares -= marks * marks;
+        if (gradedCount == 0) {
+            marksSum = 0.0;
+            marksSumOfSquares = 0.0;
+            minMarks = null;
+            maxMarks = null;
+            return false;
+        }
+        return minMarks == null || maxMarks == null
+                || marks <= minMarks + EXTREME_TOLERANCE || marks >= maxMarks - EXTREME_TOLERANCE;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        lastUpdated = new Date();
+    }
+}
@@ -1,5 +1,6 @@
 package com.coursemate.entity;
 
+import com.coursemate.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -20,7 +21,7 @@ import java.util.Set;
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
@@ -45,6 +46,13 @@ public class Course {
     @Column(nullable = false)
     private Boolean isActive = true;
 
+    /**
+     * Active enrollments holding a seat. Only changed through the atomic
+     * updates in CourseRepository, never by flushing this entity.
+     */
+    @Column(nullable = false, updatable = false)
+    private Integer seatsTaken = 0;
+
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<Enrollment> enrollments = new HashSet<>();
 
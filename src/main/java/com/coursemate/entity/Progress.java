@@ -1,5 +1,6 @@
 package com.coursemate.entity;
 
+import com.coursemate.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -20,7 +21,7 @@ import java.util.Date;
 public class Progress {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -47,6 +48,12 @@ public class Progress {
     @Column(nullable = false)
     private Integer totalAssignmentsAssigned = 0;
 
+    @Column(nullable = false)
+    private Integer gradedCount = 0;
+
+    @Column(nullable = false)
+    private Double totalScore = 0.0;
+
     @Temporal(TemporalType.TIMESTAMP)
     @Column(nullable = false, updatable = false)
     private Date startDate = new Date();
@@ -78,6 +85,27 @@ public class Progress {
         return (double) totalAssignmentsSubmitted / totalAssignmentsAssigned * 100;
     }
 
+    /**
+     * Recompute completion, average and status from the stored counters
+     */
+    public void refreshDerivedFields() {
+        averageScore = gradedCount > 0 ? totalScore / gradedCount : 0.0;
+
+        double completion = 0;
+        if (totalAssignmentsAssigned > 0) {
+            completion = (double) totalAssignmentsSubmitted / totalAssignmentsAssigned * 100;
+        }
+        completionPercentage = Math.min(completion, 100.0);
+
+        if (completion >= 100) {
+            status = ProgressStatus.COMPLETED;
+        } else if (completion > 0) {
+            status = ProgressStatus.IN_PROGRESS;
+        } else {
+            status = ProgressStatus.NOT_STARTED;
+        }
+    }
+
     @PreUpdate
     protected void onUpdate() {
         lastUpdated = new Date();
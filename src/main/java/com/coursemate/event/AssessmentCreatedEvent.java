@@ -0,0 +1,16 @@
+package com.coursemate.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when an assessment is added to a course
+ */
+@Getter
+@AllArgsConstructor
+public class AssessmentCreatedEvent {
+
+    private final Long assessmentId;
+
+    private final Long courseId;
+}
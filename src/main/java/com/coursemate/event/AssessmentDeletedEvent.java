@@ -0,0 +1,16 @@
+package com.coursemate.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when an assessment and its submissions are removed from a course
+ */
+@Getter
+@AllArgsConstructor
+public class AssessmentDeletedEvent {
+
+    private final Long assessmentId;
+
+    private final Long courseId;
+}
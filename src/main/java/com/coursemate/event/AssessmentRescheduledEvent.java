@@ -0,0 +1,16 @@
+package com.coursemate.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when an assessment's due date changes, which changes which submissions count as late
+ */
+@Getter
+@AllArgsConstructor
+public class AssessmentRescheduledEvent {
+
+    private final Long assessmentId;
+
+    private final Long courseId;
+}
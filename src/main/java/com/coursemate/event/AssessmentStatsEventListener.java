@@ -0,0 +1,154 @@
+package com.coursemate.event;
+
+import com.coursemate.entity.AssessmentStats;
+import com.coursemate.repository.AssessmentStatsRepository;
+import com.coursemate.repository.SubmissionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps AssessmentStats current as submissions are submitted, graded and deleted.
+ * Runs synchronously inside the publishing transaction, like ProgressEventListener,
+ * so the statistics commit or roll back together with the submission change.
+ */
+@Component
+public class AssessmentStatsEventListener {
+
+    @Autowired
+    private AssessmentStatsRepository assessmentStatsRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @EventListener
+    public void onSubmissionSubmitted(SubmissionSubmittedEvent event) {
+        AssessmentStats stats = lockStats(event.getAssessmentId());
+        if (stats == null) {
+            return;
+        }
+        stats.setSubmissionCount(stats.getSubmissionCount() + 1);
+        if (event.isLate()) {
+            stats.setLateCount(stats.getLateCount() + 1);
+        }
+    }
+
+    @EventListener
+    public void onSubmissionGraded(SubmissionGradedEvent event) {
+        AssessmentStats stats = lockStats(event.getAssessmentId());
+        if (stats == null) {
+            return;
+        }
+        boolean extremeRemoved = event.isRegrade() && stats.removeGrade(event.getPreviousMarks());
+        stats.addGrade(event.getMarksObtained());
+        if (extremeRemoved) {
+            refreshExtremes(stats);
+        }
+    }
+
+    /**
+     * One lock and update per assessment for a whole bulk grading request.
+     * A rebuilt row already holds every grade of the batch, so none are applied to it.
+     */
+    @EventListener
+    public void onSubmissionsBulkGraded(SubmissionsBulkGradedEvent event) {
+        for (Map.Entry<Long, List<SubmissionGradedEvent>> entry : event.byAssessment().entrySet()) {
+            AssessmentStats stats = lockStats(entry.getKey());
+            if (stats == null) {
+                continue;
+            }
+            boolean extremeRemoved = false;
+            for (SubmissionGradedEvent grade : entry.getValue()) {
+                if (grade.isRegrade()) {
+                    extremeRemoved |= stats.removeGrade(grade.getPreviousMarks());
+                }
+                stats.addGrade(grade.getMarksObtained());
+            }
+            if (extremeRemoved) {
+                refreshExtremes(stats);
+            }
+        }
+    }
+
+    @EventListener
+    public void onSubmissionDeleted(SubmissionDeletedEvent event) {
+        AssessmentStats stats = lockStats(event.getAssessmentId());
+        if (stats == null) {
+            return;
+        }
+        stats.setSubmissionCount(Math.max(0, stats.getSubmissionCount() - 1));
+        if (event.isLate()) {
+            stats.setLateCount(Math.max(0, stats.getLateCount() - 1));
+        }
+        if (event.getMarksObtained() != null && stats.removeGrade(event.getMarksObtained())) {
+            refreshExtremes(stats);
+        }
+    }
+
+    @EventListener
+    public void onAssessmentCreated(AssessmentCreatedEvent event) {
+        assessmentStatsRepository.save(new AssessmentStats(event.getAssessmentId()));
+    }
+
+    @EventListener
+    public void onAssessmentRescheduled(AssessmentRescheduledEvent event) {
+        AssessmentStats stats = lockStats(event.getAssessmentId());
+        if (stats != null) {
+            applyTotals(stats, summarize(event.getAssessmentId()));
+        }
+    }
+
+    @EventListener
+    public void onAssessmentDeleted(AssessmentDeletedEvent event) {
+        assessmentStatsRepository.findById(event.getAssessmentId()).ifPresent(assessmentStatsRepository::delete);
+    }
+
+    /**
+     * Lock the assessment's stats row for an O(1) update.
+     * A missing row is built from aggregates instead, which already include
+     * this change, so the caller must not apply its delta. Concurrent rebuilds
+     * meet on the primary key: the second insert waits for the first to commit,
+     * inserts nothing, and its caller applies the delta to the committed row.
+     */
+    private AssessmentStats lockStats(Long assessmentId) {
+        AssessmentStats stats = assessmentStatsRepository.findForUpdate(assessmentId).orElse(null);
+        if (stats != null) {
+            return stats;
+        }
+        boolean inserted = assessmentStatsRepository.insertEmptyIfAbsent(assessmentId) == 1;
+        stats = assessmentStatsRepository.findForUpdate(assessmentId)
+                .orElseThrow(() -> new IllegalStateException("Stats row for assessment " + assessmentId + " is missing"));
+        if (!inserted) {
+            return stats;
+        }
+        applyTotals(stats, summarize(assessmentId));
+        return null;
+    }
+
+    // Helper to recompute min and max after the previous extreme was removed
+    private void refreshExtremes(AssessmentStats stats) {
+        Object[] totals = summarize(stats.getAssessmentId());
+        stats.setMinMarks(totals == null ? null : (Double) totals[5]);
+        stats.setMaxMarks(totals == null ? null : (Double) totals[6]);
+    }
+
+    // Helper to run the single-assessment aggregate (row layout documented on the repository)
+    private Object[] summarize(Long assessmentId) {
+        List<Object[]> rows = submissionRepository.summarizeSubmissionsByAssessment(assessmentId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    // Helper to overwrite every counter from an aggregate row
+    private void applyTotals(AssessmentStats stats, Object[] totals) {
+        stats.setSubmissionCount(totals == null ? 0L : ((Number) totals[0]).longValue());
+        stats.setGradedCount(totals == null ? 0L : ((Number) totals[1]).longValue());
+        stats.setLateCount(totals == null ? 0L : ((Number) totals[2]).longValue());
+        stats.setMarksSum(totals == null ? 0.0 : ((Number) totals[3]).doubleValue());
+        stats.setMarksSumOfSquares(totals == null ? 0.0 : ((Number) totals[4]).doubleValue());
+        stats.setMinMarks(totals == null ? null : (Double) totals[5]);
+        stats.setMaxMarks(totals == null ? null : (Double) totals[6]);
+    }
+}
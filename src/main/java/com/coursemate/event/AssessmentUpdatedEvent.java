@@ -0,0 +1,16 @@
+package com.coursemate.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when an assessment's details or publication state change
+ */
+@Getter
+@AllArgsConstructor
+public class AssessmentUpdatedEvent {
+
+    private final Long assessmentId;
+
+    private final Long courseId;
+}
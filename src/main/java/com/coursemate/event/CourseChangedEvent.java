@@ -0,0 +1,16 @@
+package com.coursemate.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a course is created, updated or deleted
+ */
+@Getter
+@AllArgsConstructor
+public class CourseChangedEvent {
+
+    private final Long courseId;
+
+    private final boolean deleted;
+}
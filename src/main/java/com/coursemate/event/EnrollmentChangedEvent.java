@@ -0,0 +1,14 @@
+package com.coursemate.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when enrollments are added to or removed from a course
+ */
+@Getter
+@AllArgsConstructor
+public class EnrollmentChangedEvent {
+
+    private final Long courseId;
+}
@@ -0,0 +1,16 @@
+package com.coursemate.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a progress row is recalculated, edited or deleted directly
+ */
+@Getter
+@AllArgsConstructor
+public class ProgressChangedEvent {
+
+    private final Long studentId;
+
+    private final Long courseId;
+}
@@ -0,0 +1,160 @@
+package com.coursemate.event;
+
+import com.coursemate.entity.Progress;
+import com.coursemate.id.SnowflakeIdGenerator;
+import com.coursemate.repository.AssessmentRepository;
+import com.coursemate.repository.ProgressRepository;
+import com.coursemate.repository.SubmissionRepository;
+import com.coursemate.service.ProgressService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps Progress counters current as submissions and assessments change.
+ * Runs synchronously inside the publishing transaction, so the counters
+ * commit or roll back together with the change that caused them.
+ */
+@Component
+public class ProgressEventListener {
+
+    @Autowired
+    private ProgressRepository progressRepository;
+
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private ProgressService progressService;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @EventListener
+    public void onSubmissionSubmitted(SubmissionSubmittedEvent event) {
+        Progress progress = lockProgress(event);
+        if (progress == null) {
+            return;
+        }
+        progress.setTotalAssignmentsSubmitted(progress.getTotalAssignmentsSubmitted() + 1);
+        progress.refreshDerivedFields();
+    }
+
+    @EventListener
+    public void onSubmissionGraded(SubmissionGradedEvent event) {
+        Progress progress = lockProgress(event);
+        if (progress == null) {
+            return;
+        }
+        applyGrade(progress, event);
+        progress.refreshDerivedFields();
+    }
+
+    /**
+     * One lock and update per student course for a whole bulk grading request.
+     * A rebuilt row already holds every grade of the batch, so none are applied to it.
+     */
+    @EventListener
+    public void onSubmissionsBulkGraded(SubmissionsBulkGradedEvent event) {
+        event.byStudentAndCourse().forEach((studentId, byCourse) -> byCourse.forEach((courseId, grades) -> {
+            Progress progress = lockProgress(studentId, courseId);
+            if (progress == null) {
+                return;
+            }
+            for (SubmissionGradedEvent grade : grades) {
+                applyGrade(progress, grade);
+            }
+            progress.refreshDerivedFields();
+        }));
+    }
+
+    @EventListener
+    public void onSubmissionDeleted(SubmissionDeletedEvent event) {
+        Progress progress = lockProgress(event);
+        if (progress == null) {
+            return;
+        }
+        progress.setTotalAssignmentsSubmitted(Math.max(0, progress.getTotalAssignmentsSubmitted() - 1));
+        if (event.getMarksObtained() != null) {
+            progress.setGradedCount(Math.max(0, progress.getGradedCount() - 1));
+            progress.setTotalScore(progress.getTotalScore() - event.getMarksObtained());
+        }
+        progress.refreshDerivedFields();
+    }
+
+    @EventListener
+    public void onAssessmentCreated(AssessmentCreatedEvent event) {
+        int assigned = (int) assessmentRepository.countByCourseId(event.getCourseId());
+        for (Progress progress : progressRepository.findByCourseId(event.getCourseId())) {
+            progress.setTotalAssignmentsAssigned(assigned);
+            progress.refreshDerivedFields();
+        }
+    }
+
+    /**
+     * Deleting an assessment also deletes its submissions, so every student's
+     * totals in the course are rebuilt from one grouped aggregate query.
+     */
+    @EventListener
+    public void onAssessmentDeleted(AssessmentDeletedEvent event) {
+        int assigned = (int) assessmentRepository.countByCourseId(event.getCourseId());
+
+        Map<Long, Object[]> totalsByStudent = new HashMap<>();
+        for (Object[] row : submissionRepository.summarizeSubmissionsByCourse(event.getCourseId())) {
+            totalsByStudent.put((Long) row[0], row);
+        }
+
+        List<Progress> progressRecords = progressRepository.findByCourseId(event.getCourseId());
+        for (Progress progress : progressRecords) {
+            Object[] row = totalsByStudent.get(progress.getStudent().getId());
+            progress.setTotalAssignmentsAssigned(assigned);
+            progress.setTotalAssignmentsSubmitted(row == null ? 0 : ((Number) row[1]).intValue());
+            progress.setGradedCount(row == null ? 0 : ((Number) row[2]).intValue());
+            progress.setTotalScore(row == null ? 0.0 : ((Number) row[3]).doubleValue());
+            progress.refreshDerivedFields();
+        }
+    }
+
+    /**
+     * Lock the student's progress row for an O(1) update.
+     * A missing row is built from aggregates instead, which already include
+     * this change, so the caller must not apply its delta. Concurrent rebuilds
+     * meet on the student-course key: the second insert waits for the first to
+     * commit, inserts nothing, and its caller applies the delta to the committed row.
+     */
+    private Progress lockProgress(SubmissionEvent event) {
+        return lockProgress(event.getStudentId(), event.getCourseId());
+    }
+
+    private Progress lockProgress(Long studentId, Long courseId) {
+        Progress progress = progressRepository.findForUpdate(studentId, courseId).orElse(null);
+        if (progress != null) {
+            return progress;
+        }
+        boolean inserted = progressRepository.insertEmptyIfAbsent(idGenerator.nextId(), studentId, courseId) == 1;
+        progress = progressRepository.findForUpdate(studentId, courseId).orElse(null);
+        if (inserted || progress == null) {
+            // Fills the locked empty row; with no row at all it reports the unknown student or course
+            progressService.calculateProgress(studentId, courseId);
+            return null;
+        }
+        return progress;
+    }
+
+    // Helper to apply one grade's delta to the score totals
+    private void applyGrade(Progress progress, SubmissionGradedEvent event) {
+        if (event.isRegrade()) {
+            progress.setTotalScore(progress.getTotalScore() - event.getPreviousMarks() + event.getMarksObtained());
+        } else {
+            progress.setGradedCount(progress.getGradedCount() + 1);
+            progress.setTotalScore(progress.getTotalScore() + event.getMarksObtained());
+        }
+    }
+}
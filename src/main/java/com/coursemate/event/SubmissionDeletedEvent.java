@@ -0,0 +1,12 @@
+package com.coursemate.event;
+
+/**
+ * Published when a submission is deleted; marksObtained is what it held at deletion
+ */
+public class SubmissionDeletedEvent extends SubmissionEvent {
+
+    public SubmissionDeletedEvent(Long submissionId, Long assessmentId, Long courseId, Long studentId,
+                                  Double marksObtained, boolean late) {
+        super(submissionId, assessmentId, courseId, studentId, marksObtained, late);
+    }
+}
@@ -0,0 +1,33 @@
+package com.coursemate.event;
+
+import lombok.Getter;
+
+/**
+ * Base class for submission lifecycle events.
+ * Carries the ids and marks listeners need so they never reload the submission.
+ */
+@Getter
+public abstract class SubmissionEvent {
+
+    private final Long submissionId;
+
+    private final Long assessmentId;
+
+    private final Long courseId;
+
+    private final Long studentId;
+
+    private final Double marksObtained;
+
+    private final boolean late;
+
+    protected SubmissionEvent(Long submissionId, Long assessmentId, Long courseId, Long studentId,
+                              Double marksObtained, boolean late) {
+        this.submissionId = submissionId;
+        this.assessmentId = assessmentId;
+        this.courseId = courseId;
+        this.studentId = studentId;
+        this.marksObtained = marksObtained;
+        this.late = late;
+    }
+}
@@ -0,0 +1,23 @@
+package com.coursemate.event;
+
+import lombok.Getter;
+
+/**
+ * Published when a submission is graded or re-graded.
+ * previousMarks is null on the first grading.
+ */
+@Getter
+public class SubmissionGradedEvent extends SubmissionEvent {
+
+    private final Double previousMarks;
+
+    public SubmissionGradedEvent(Long submissionId, Long assessmentId, Long courseId, Long studentId,
+                                 Double previousMarks, Double marksObtained, boolean late) {
+        super(submissionId, assessmentId, courseId, studentId, marksObtained, late);
+        this.previousMarks = previousMarks;
+    }
+
+    public boolean isRegrade() {
+        return previousMarks != null;
+    }
+}
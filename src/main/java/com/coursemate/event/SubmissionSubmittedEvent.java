@@ -0,0 +1,12 @@
+package com.coursemate.event;
+
+/**
+ * Published when a student submits an assessment
+ */
+public class SubmissionSubmittedEvent extends SubmissionEvent {
+
+    public SubmissionSubmittedEvent(Long submissionId, Long assessmentId, Long courseId, Long studentId,
+                                    boolean late) {
+        super(submissionId, assessmentId, courseId, studentId, null, late);
+    }
+}
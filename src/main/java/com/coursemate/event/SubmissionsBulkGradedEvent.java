@@ -0,0 +1,37 @@
+package com.coursemate.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Published once per bulk grading request, after every row has been written.
+ * Listeners apply the grades per assessment and per student course together,
+ * so each counter row is locked and updated once instead of once per row.
+ */
+@Getter
+@AllArgsConstructor
+public class SubmissionsBulkGradedEvent {
+
+    private final List<SubmissionGradedEvent> grades;
+
+    /**
+     * Grades grouped by assessment, in id order so rows are always locked in the same order
+     */
+    public Map<Long, List<SubmissionGradedEvent>> byAssessment() {
+        return grades.stream().collect(Collectors.groupingBy(SubmissionGradedEvent::getAssessmentId,
+                TreeMap::new, Collectors.toList()));
+    }
+
+    /**
+     * Grades grouped by student and then course, both in id order
+     */
+    public Map<Long, Map<Long, List<SubmissionGradedEvent>>> byStudentAndCourse() {
+        return grades.stream().collect(Collectors.groupingBy(SubmissionGradedEvent::getStudentId, TreeMap::new,
+                Collectors.groupingBy(SubmissionGradedEvent::getCourseId, TreeMap::new, Collectors.toList())));
+    }
+}
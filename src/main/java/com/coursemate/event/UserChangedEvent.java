@@ -0,0 +1,18 @@
+package com.coursemate.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a user's profile, status or roles change, or the user is deleted
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    private final Long userId;
+
+    private final String username;
+
+    private final boolean deleted;
+}
@@ -0,0 +1,18 @@
+package com.coursemate.exception;
+
+/**
+ * Custom exception for temporary overload; mapped to 503 with a Retry-After header
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,114 @@
+package com.coursemate.id;
+
+import com.coursemate.exception.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Time-ordered, node-aware 53-bit id generator (Snowflake layout).
+ *
+ * <pre>
+ * | 40 bits: ms since 2024-01-01 UTC | 5 bits: node | 8 bits: sequence |
+ * </pre>
+ *
+ * Ids stay below 2^53 so they survive a round-trip through JavaScript numbers,
+ * and they are far above any AUTO_INCREMENT value already in the tables, so
+ * existing rows keep their ids and ordering by id still follows insert order.
+ * The node id (0-31) comes from {@link SnowflakeNodeLease} once the context
+ * has started, so no two running nodes share one. A node issues up to 256 ids
+ * per millisecond; after that, or if the clock steps back, it waits for the
+ * clock to move on rather than issuing ids ahead of it.
+ */
+@Component
+public class SnowflakeIdGenerator implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnowflakeIdGenerator.class);
+
+    public static final long EPOCH_MS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 5;
+    private static final int SEQUENCE_BITS = 8;
+
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // Larger backward clock steps fail id generation instead of stalling it
+    private static final long MAX_CLOCK_WAIT_MS = 5000;
+
+    @Autowired
+    private SnowflakeNodeLease nodeLease;
+
+    private int nodeId = -1;
+
+    private long lastTimestamp = -1L;
+
+    private long sequence;
+
+    /**
+     * Lease the node id after every singleton (including the schema migration) is ready
+     */
+    @Override
+    public synchronized void afterSingletonsInstantiated() {
+        nodeId = nodeLease.acquire();
+        logger.info("Snowflake id generator started (node {})", nodeId);
+    }
+
+    public synchronized long nextId() {
+        if (nodeId < 0) {
+            throw new IllegalStateException("Snowflake id generator has not been initialized");
+        }
+        if (!nodeLease.isHeld()) {
+            throw new ServiceUnavailableException("Id generation is paused until the node id lease is renewed", 5);
+        }
+
+        long timestamp = currentTimestamp();
+        if (timestamp < lastTimestamp) {
+            if (lastTimestamp - timestamp > MAX_CLOCK_WAIT_MS) {
+                throw new IllegalStateException("Clock moved back by " + (lastTimestamp - timestamp)
+                        + "ms; refusing to issue ids");
+            }
+            timestamp = waitForTimestamp(lastTimestamp);
+        }
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // Sequence exhausted for this millisecond: wait for the next one
+                timestamp = waitForTimestamp(lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | ((long) nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Creation time encoded in an id issued by this generator
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MS;
+    }
+
+    // Helper to spin until the clock reaches the given timestamp; returns the current one
+    private static long waitForTimestamp(long target) {
+        long timestamp = currentTimestamp();
+        while (timestamp < target) {
+            Thread.onSpinWait();
+            timestamp = currentTimestamp();
+        }
+        return timestamp;
+    }
+
+    private static long currentTimestamp() {
+        return System.currentTimeMillis() - EPOCH_MS;
+    }
+}
@@ -0,0 +1,34 @@
+package com.coursemate.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * Hibernate bridge for {@link SnowflakeId}; delegates to the Spring-managed
+ * generator, which IdGeneratorConfig passes in as a Hibernate setting
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String GENERATOR_SETTING = "coursemate.id.snowflake-generator";
+
+    private final SnowflakeIdGenerator generator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member idMember,
+                                        CustomIdGeneratorCreationContext creationContext) {
+        Object setting = creationContext.getServiceRegistry().getService(ConfigurationService.class)
+                .getSettings().get(GENERATOR_SETTING);
+        if (!(setting instanceof SnowflakeIdGenerator)) {
+            throw new IllegalStateException("No Snowflake id generator in Hibernate setting " + GENERATOR_SETTING);
+        }
+        this.generator = (SnowflakeIdGenerator) setting;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
@@ -0,0 +1,154 @@
+package com.coursemate.id;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gives this node a Snowflake node id that no other running node holds.
+ * With app.id.node-lease.enabled the id is leased from the id_node_leases
+ * table and renewed in the background: app.id.node-id pins a specific id,
+ * otherwise the first free one is taken. Without the lease table (e.g. the
+ * H2 benchmark profile) app.id.node-id must be set explicitly.
+ */
+@Component
+public class SnowflakeNodeLease {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnowflakeNodeLease.class);
+
+    private static final String CLAIM_SQL = "UPDATE id_node_leases " +
+            "SET instance_id = ?, expires_at = DATE_ADD(NOW(6), INTERVAL ? SECOND) " +
+            "WHERE node_id = ? AND (instance_id = ? OR expires_at < NOW(6))";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.id.node-id:#{null}}")
+    private Integer configuredNodeId;
+
+    @Value("${app.id.node-lease.enabled:true}")
+    private boolean leaseEnabled;
+
+    @Value("${app.id.node-lease.ttl-seconds:60}")
+    private int ttlSeconds;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private int nodeId = -1;
+
+    // Local deadline of the current lease, measured from before the claim was sent
+    private volatile long heldUntil;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Claim a node id and start renewing it.
+     * A pinned id still held by a previous instance of this node is waited
+     * for up to one lease period.
+     */
+    public synchronized int acquire() {
+        if (!leaseEnabled) {
+            if (configuredNodeId == null) {
+                throw new IllegalStateException("app.id.node-id must be set when app.id.node-lease.enabled is false");
+            }
+            nodeId = checkRange(configuredNodeId);
+            heldUntil = Long.MAX_VALUE;
+            return nodeId;
+        }
+
+        nodeId = configuredNodeId != null ? claimConfigured(checkRange(configuredNodeId)) : claimFree();
+        long renewIntervalMs = ttlSeconds * 1000L / 3;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "id-node-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::renew, renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+        logger.info("Leased Snowflake node id {} for {}s", nodeId, ttlSeconds);
+        return nodeId;
+    }
+
+    /**
+     * Whether this node may still issue ids under its node id
+     */
+    public boolean isHeld() {
+        return System.currentTimeMillis() < heldUntil;
+    }
+
+    /**
+     * Hand the node id back so a restarted node can claim it right away
+     */
+    @PreDestroy
+    public void release() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (leaseEnabled && nodeId >= 0 && isHeld()) {
+            heldUntil = 0;
+            jdbcTemplate.update("UPDATE id_node_leases SET expires_at = NOW(6) WHERE node_id = ? AND instance_id = ?",
+                    nodeId, instanceId);
+        }
+    }
+
+    private int claimConfigured(int id) {
+        long deadline = System.currentTimeMillis() + ttlSeconds * 1000L;
+        while (!claim(id)) {
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IllegalStateException("Snowflake node id " + id + " is leased by another running node");
+            }
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for Snowflake node id " + id, e);
+            }
+        }
+        return id;
+    }
+
+    private int claimFree() {
+        for (int id = 0; id <= SnowflakeIdGenerator.MAX_NODE_ID; id++) {
+            if (claim(id)) {
+                return id;
+            }
+        }
+        throw new IllegalStateException("All " + (SnowflakeIdGenerator.MAX_NODE_ID + 1)
+                + " Snowflake node ids are leased by running nodes");
+    }
+
+    private boolean claim(int id) {
+        long sentAt = System.currentTimeMillis();
+        if (jdbcTemplate.update(CLAIM_SQL, instanceId, ttlSeconds, id, instanceId) != 1) {
+            return false;
+        }
+        heldUntil = sentAt + ttlSeconds * 1000L;
+        return true;
+    }
+
+    private void renew() {
+        try {
+            if (!claim(nodeId)) {
+                logger.error("Lost the lease on Snowflake node id {}; id generation stops until it is free again", nodeId);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not renew the lease on Snowflake node id {}", nodeId, e);
+        }
+    }
+
+    private static int checkRange(int id) {
+        if (id < 0 || id > SnowflakeIdGenerator.MAX_NODE_ID) {
+            throw new IllegalStateException("app.id.node-id must be between 0 and "
+                    + SnowflakeIdGenerator.MAX_NODE_ID + ", was " + id);
+        }
+        return id;
+    }
+}
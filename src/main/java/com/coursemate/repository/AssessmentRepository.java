@@ -1,5 +1,6 @@
 package com.coursemate.repository;
 
+import com.coursemate.dto.AssessmentDTO;
 import com.coursemate.entity.Assessment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,13 +15,30 @@ import java.util.Optional;
 @Repository
 public interface AssessmentRepository extends JpaRepository<Assessment, Long> {
 
+    /**
+     * Assessment listing projection: joins the course for its title and reads
+     * the submission count from assessment_stats instead of loading submissions
+     */
+    String ASSESSMENT_SUMMARY_SELECT = "SELECT new com.coursemate.dto.AssessmentDTO(" +
+            "a.id, a.title, a.description, a.type, c.id, c.title, a.totalMarks, a.passingMarks, " +
+            "a.dueDate, a.isPublished, COALESCE(st.submissionCount, 0L)) " +
+            "FROM Assessment a JOIN a.course c LEFT JOIN AssessmentStats st ON st.assessmentId = a.id";
+
     List<Assessment> findByCourseId(Long courseId);
 
-    @Query("SELECT a FROM Assessment a WHERE a.course.id = ?1 AND a.isPublished = true")
-    List<Assessment> findPublishedAssessmentsByCourseId(Long courseId);
+    @Query(ASSESSMENT_SUMMARY_SELECT + " WHERE a.id = ?1")
+    Optional<AssessmentDTO> findAssessmentSummaryById(Long id);
+
+    @Query(ASSESSMENT_SUMMARY_SELECT + " WHERE c.id = ?1")
+    List<AssessmentDTO> findAssessmentSummariesByCourseId(Long courseId);
+
+    @Query(ASSESSMENT_SUMMARY_SELECT + " WHERE c.id = ?1 AND a.isPublished = true")
+    List<AssessmentDTO> findPublishedAssessmentSummariesByCourseId(Long courseId);
+
+    @Query(ASSESSMENT_SUMMARY_SELECT + " WHERE c.id = ?1 AND a.type = ?2")
+    List<AssessmentDTO> findAssessmentSummariesByTypeAndCourse(Long courseId, Assessment.AssessmentType type);
 
-    @Query("SELECT a FROM Assessment a WHERE a.course.id = ?1 AND a.type = ?2")
-    List<Assessment> findAssessmentsByTypeAndCourse(Long courseId, String type);
+    long countByCourseId(Long courseId);
 
     Optional<Assessment> findByIdAndCourseId(Long assessmentId, Long courseId);
 }
@@ -0,0 +1,48 @@
+package com.coursemate.repository;
+
+import com.coursemate.entity.AssessmentStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for AssessmentStats entity
+ */
+@Repository
+public interface AssessmentStatsRepository extends JpaRepository<AssessmentStats, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AssessmentStats s WHERE s.assessmentId = ?1")
+    Optional<AssessmentStats> findForUpdate(Long assessmentId);
+
+    /**
+     * Insert an all-zero stats row unless one exists; returns 1 when this call inserted it.
+     * A concurrent uncommitted insert of the same row makes this wait for its outcome.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO assessment_stats (assessment_id, submission_count, graded_count, late_count, " +
+            "marks_sum, marks_sum_of_squares, min_marks, max_marks, last_updated) " +
+            "VALUES (?1, 0, 0, 0, 0, 0, NULL, NULL, CURRENT_TIMESTAMP)", nativeQuery = true)
+    int insertEmptyIfAbsent(Long assessmentId);
+
+    /**
+     * Create stats rows for assessments that have none, from one grouped scan.
+     * Covers data written before the table existed or inserted outside the services.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO assessment_stats (assessment_id, submission_count, graded_count, late_count, " +
+            "marks_sum, marks_sum_of_squares, min_marks, max_marks, last_updated) " +
+            "SELECT a.id, COUNT(s.id), COUNT(s.marks_obtained), " +
+            "COALESCE(SUM(CASE WHEN s.submitted_at > a.due_date THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(s.marks_obtained), 0), COALESCE(SUM(s.marks_obtained * s.marks_obtained), 0), " +
+            "MIN(s.marks_obtained), MAX(s.marks_obtained), CURRENT_TIMESTAMP " +
+            "FROM assessments a LEFT JOIN submissions s ON s.assessment_id = a.id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM assessment_stats st WHERE st.assessment_id = a.id) " +
+            "GROUP BY a.id", nativeQuery = true)
+    int backfillMissingStats();
+}
@@ -1,11 +1,19 @@
 package com.coursemate.repository;
 
+import com.coursemate.dto.CourseDTO;
+import com.coursemate.dto.CourseSuggestionDTO;
 import com.coursemate.entity.Course;
 import com.coursemate.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,10 +23,23 @@ import java.util.Optional;
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
 
+    /**
+     * Course listing projection: joins the instructor and counts enrollments
+     * with a subquery instead of loading each course's enrollment set
+     */
+    String COURSE_SUMMARY_SELECT = "SELECT new com.coursemate.dto.CourseDTO(" +
+            "c.id, c.title, c.description, c.courseCode, c.credits, c.maxStudents, c.isActive, " +
+            "i.id, i.firstName, i.lastName, " +
+            "(SELECT COUNT(e) FROM Enrollment e WHERE e.course.id = c.id)) " +
+            "FROM Course c JOIN c.instructor i";
+
     Optional<Course> findByCourseCode(String courseCode);
 
     List<Course> findByInstructorId(Long instructorId);
 
+    @Query("SELECT c.id FROM Course c WHERE c.instructor.id = ?1")
+    List<Long> findIdsByInstructorId(Long instructorId);
+
     List<Course> findByIsActiveTrue();
 
     @Query("SELECT c FROM Course c WHERE c.instructor.id = ?1 AND c.isActive = true")
@@ -32,4 +53,75 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
             "LOWER(c.title) LIKE LOWER(CONCAT('%', ?1, '%')) OR " +
             "LOWER(c.courseCode) LIKE LOWER(CONCAT('%', ?1, '%'))")
     List<Course> searchCourses(String keyword);
+
+    @Query(COURSE_SUMMARY_SELECT + " WHERE c.id = ?1")
+    Optional<CourseDTO> findCourseSummaryById(Long id);
+
+    @Query(COURSE_SUMMARY_SELECT + " WHERE c.id IN ?1")
+    List<CourseDTO> findCourseSummariesByIdIn(Collection<Long> ids);
+
+    @Query("SELECT new com.coursemate.dto.CourseSuggestionDTO(c.id, c.courseCode, c.title) " +
+            "FROM Course c WHERE c.id > ?1")
+    List<CourseSuggestionDTO> findCourseSuggestionsAfter(Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.coursemate.dto.CourseSuggestionDTO(c.id, c.courseCode, c.title) " +
+            "FROM Course c WHERE c.id = ?1")
+    Optional<CourseSuggestionDTO> findCourseSuggestionById(Long id);
+
+    @Query(COURSE_SUMMARY_SELECT + " WHERE c.courseCode = ?1")
+    Optional<CourseDTO> findCourseSummaryByCourseCode(String courseCode);
+
+    @Query(COURSE_SUMMARY_SELECT)
+    List<CourseDTO> findAllCourseSummaries();
+
+    @Query(COURSE_SUMMARY_SELECT + " WHERE c.id > ?1")
+    List<CourseDTO> findCourseSummariesAfter(Long afterId, Pageable pageable);
+
+    @Query(COURSE_SUMMARY_SELECT + " WHERE c.id < ?1")
+    List<CourseDTO> findCourseSummariesBefore(Long beforeId, Pageable pageable);
+
+    @Query(value = COURSE_SUMMARY_SELECT, countQuery = "SELECT COUNT(c) FROM Course c")
+    Page<CourseDTO> findCourseSummaries(Pageable pageable);
+
+    @Query(COURSE_SUMMARY_SELECT + " WHERE c.isActive = true")
+    List<CourseDTO> findActiveCourseSummaries();
+
+    @Query(COURSE_SUMMARY_SELECT + " WHERE i.id = ?1")
+    List<CourseDTO> findCourseSummariesByInstructor(Long instructorId);
+
+    @Query(COURSE_SUMMARY_SELECT + " WHERE c.id IN " +
+            "(SELECT en.course.id FROM Enrollment en WHERE en.student.id = ?1)")
+    List<CourseDTO> findEnrolledCourseSummaries(Long studentId);
+
+    @Query(COURSE_SUMMARY_SELECT + " WHERE " +
+            "LOWER(c.title) LIKE LOWER(CONCAT('%', ?1, '%')) OR " +
+            "LOWER(c.courseCode) LIKE LOWER(CONCAT('%', ?1, '%'))")
+    List<CourseDTO> searchCourseSummaries(String keyword);
+
+    /**
+     * Take a seat if one is free; returns 0 when the course is full or missing
+     */
+    @Modifying
+    @Query("UPDATE Course c SET c.seatsTaken = c.seatsTaken + 1 WHERE c.id = ?1 AND c.seatsTaken < c.maxStudents")
+    int reserveSeat(Long courseId);
+
+    @Modifying
+    @Query("UPDATE Course c SET c.seatsTaken = c.seatsTaken + ?2 WHERE c.id = ?1 AND c.seatsTaken + ?2 <= c.maxStudents")
+    int reserveSeats(Long courseId, int seats);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Course c WHERE c.id = ?1")
+    Optional<Course> findByIdForUpdate(Long id);
+
+    @Modifying
+    @Query("UPDATE Course c SET c.seatsTaken = c.seatsTaken - 1 WHERE c.id = ?1 AND c.seatsTaken > 0")
+    int releaseSeat(Long courseId);
+
+    /**
+     * Reset every seat counter to the number of active enrollments
+     */
+    @Modifying
+    @Query("UPDATE Course c SET c.seatsTaken = " +
+            "(SELECT COUNT(e) FROM Enrollment e WHERE e.course.id = c.id AND e.status = 'ACTIVE')")
+    int resyncSeatCounts();
 }
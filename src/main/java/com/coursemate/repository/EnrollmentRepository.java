@@ -1,10 +1,14 @@
 package com.coursemate.repository;
 
 import com.coursemate.entity.Enrollment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,8 +22,20 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 
     List<Enrollment> findByStudentId(Long studentId);
 
+    @Query("SELECT e.student.id FROM Enrollment e WHERE e.course.id = ?1 AND e.student.id IN ?2")
+    List<Long> findEnrolledStudentIds(Long courseId, Collection<Long> studentIds);
+
     List<Enrollment> findByCourseId(Long courseId);
 
+    @EntityGraph(attributePaths = {"student", "course"})
+    List<Enrollment> findByCourseIdAndIdGreaterThan(Long courseId, Long afterId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"student", "course"})
+    List<Enrollment> findByCourseIdAndIdLessThan(Long courseId, Long beforeId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"student", "course"})
+    Page<Enrollment> findByCourseId(Long courseId, Pageable pageable);
+
     @Query("SELECT e FROM Enrollment e WHERE e.course.id = ?1 AND e.status = 'ACTIVE'")
     List<Enrollment> findActiveEnrollmentsByCode(Long courseId);
 
@@ -1,7 +1,10 @@
 package com.coursemate.repository;
 
 import com.coursemate.entity.Progress;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -16,6 +19,26 @@ public interface ProgressRepository extends JpaRepository<Progress, Long> {
 
     Optional<Progress> findByStudentIdAndCourseId(Long studentId, Long courseId);
 
+    @Query("SELECT p FROM Progress p JOIN FETCH p.student JOIN FETCH p.course WHERE p.student.id = ?1 AND p.course.id = ?2")
+    Optional<Progress> findDetailedByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Progress p WHERE p.student.id = ?1 AND p.course.id = ?2")
+    Optional<Progress> findForUpdate(Long studentId, Long courseId);
+
+    /**
+     * Insert an empty progress row unless the student already has one for the course;
+     * returns 1 when this call inserted it. A concurrent uncommitted insert of the same
+     * student and course makes this wait for its outcome.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO progress (id, student_id, course_id, completion_percentage, average_score, " +
+            "status, total_assignments_submitted, total_assignments_assigned, graded_count, total_score, " +
+            "start_date, last_updated) " +
+            "VALUES (?1, ?2, ?3, 0, 0, 'NOT_STARTED', 0, 0, 0, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+            nativeQuery = true)
+    int insertEmptyIfAbsent(Long id, Long studentId, Long courseId);
+
     List<Progress> findByStudentId(Long studentId);
 
     List<Progress> findByCourseId(Long courseId);
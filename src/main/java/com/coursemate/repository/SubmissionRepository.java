@@ -1,12 +1,23 @@
 package com.coursemate.repository;
 
+import com.coursemate.dto.SubmissionExportRow;
 import com.coursemate.entity.Submission;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Submission entity
@@ -18,8 +29,46 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
 
     List<Submission> findByAssessmentId(Long assessmentId);
 
+    @EntityGraph(attributePaths = {"assessment", "student"})
+    List<Submission> findByAssessmentIdAndIdGreaterThan(Long assessmentId, Long afterId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"assessment", "student"})
+    List<Submission> findByAssessmentIdAndIdLessThan(Long assessmentId, Long beforeId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"assessment", "student"})
+    Page<Submission> findByAssessmentId(Long assessmentId, Pageable pageable);
+
+    /**
+     * Stream grade sheet rows for an assessment in id order.
+     * Must be consumed inside a transaction and closed; rows are fetched from
+     * the driver in chunks rather than loaded all at once.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.coursemate.dto.SubmissionExportRow(s.id, st.id, st.username, st.firstName, st.lastName, " +
+            "s.marksObtained, s.feedback, s.submittedAt, s.gradedAt, s.status) " +
+            "FROM Submission s JOIN s.student st WHERE s.assessment.id = ?1 ORDER BY s.id")
+    Stream<SubmissionExportRow> streamExportRowsByAssessmentId(Long assessmentId);
+
     List<Submission> findByStudentId(Long studentId);
 
+    /**
+     * Lock a submission before grading it, so its previous marks are read once per grade
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Submission s WHERE s.id = ?1")
+    Optional<Submission> findByIdForUpdate(Long id);
+
+    /**
+     * Lock submissions with their assessments in id order, so concurrent bulk gradings
+     * of overlapping rows wait for each other instead of deadlocking
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Submission s JOIN FETCH s.assessment WHERE s.id IN ?1 ORDER BY s.id")
+    List<Submission> findAllWithAssessmentByIdInForUpdate(Collection<Long> ids);
+
     @Query("SELECT s FROM Submission s WHERE s.assessment.id = ?1 AND s.status = 'GRADED'")
     List<Submission> findGradedSubmissionsByAssessment(Long assessmentId);
 
@@ -29,6 +78,27 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
     @Query("SELECT AVG(s.marksObtained) FROM Submission s WHERE s.assessment.id = ?1")
     Double getAverageMarksByAssessmentId(Long assessmentId);
 
+    /**
+     * Totals for one assessment: count, graded, late, sum, sum of squares, min, max
+     */
+    @Query("SELECT COUNT(s), COUNT(s.marksObtained), " +
+            "COALESCE(SUM(CASE WHEN s.submittedAt > a.dueDate THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(s.marksObtained), 0), COALESCE(SUM(s.marksObtained * s.marksObtained), 0), " +
+            "MIN(s.marksObtained), MAX(s.marksObtained) " +
+            "FROM Submission s JOIN s.assessment a WHERE a.id = ?1")
+    List<Object[]> summarizeSubmissionsByAssessment(Long assessmentId);
+
+    /**
+     * Per-student totals in a course: student id, submitted, graded, sum of marks
+     */
+    @Query("SELECT s.student.id, COUNT(s), COUNT(s.marksObtained), COALESCE(SUM(s.marksObtained), 0) " +
+            "FROM Submission s WHERE s.assessment.course.id = ?1 GROUP BY s.student.id")
+    List<Object[]> summarizeSubmissionsByCourse(Long courseId);
+
+    @Query("SELECT s.student.id, COUNT(s), COUNT(s.marksObtained), COALESCE(SUM(s.marksObtained), 0) " +
+            "FROM Submission s WHERE s.assessment.course.id = ?1 AND s.student.id = ?2 GROUP BY s.student.id")
+    List<Object[]> summarizeStudentSubmissionsInCourse(Long courseId, Long studentId);
+
     @Query("SELECT s FROM Submission s WHERE s.assessment.course.id = ?1 AND s.student.id = ?2")
     List<Submission> findStudentSubmissionsByCourseId(Long courseId, Long studentId);
 }
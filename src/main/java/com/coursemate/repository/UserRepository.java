@@ -1,10 +1,15 @@
 package com.coursemate.repository;
 
 import com.coursemate.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -22,6 +27,32 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Boolean existsByEmail(String email);
 
+    @Query("SELECT u.username FROM User u WHERE u.username IN ?1")
+    List<String> findExistingUsernames(Collection<String> usernames);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN ?1")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN ?1")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Id and full name per user, without loading the users or their eager roles
+     */
+    @Query("SELECT u.id, CONCAT(u.firstName, ' ', u.lastName) FROM User u WHERE u.id IN ?1")
+    List<Object[]> findFullNamesByIdIn(Collection<Long> ids);
+
+    /**
+     * Read from the primary (not read-only) so a revocation is never missed on a lagging replica
+     */
+    @Transactional
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = ?1")
+    Optional<Integer> findTokenVersionById(Long id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = ?2, u.updatedAt = CURRENT_TIMESTAMP WHERE u.username = ?1")
+    int updatePassword(String username, String encodedPassword);
+
     @Query("SELECT u FROM User u WHERE u.id IN " +
             "(SELECT e.instructor.id FROM Course e WHERE e.id = ?1)")
     Optional<User> findInstructorByCourseId(Long courseId);
@@ -31,4 +62,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = 'STUDENT'")
     List<User> findAllStudents();
+
+    List<User> findByIdGreaterThan(Long afterId, Pageable pageable);
+
+    List<User> findByIdLessThan(Long beforeId, Pageable pageable);
+
+    @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = 'STUDENT' AND u.id > ?1")
+    List<User> findStudentsAfter(Long afterId, Pageable pageable);
+
+    @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = 'STUDENT' AND u.id < ?1")
+    List<User> findStudentsBefore(Long beforeId, Pageable pageable);
+
+    @Query(value = "SELECT u FROM User u JOIN u.roles r WHERE r.name = 'STUDENT'",
+            countQuery = "SELECT COUNT(u) FROM User u JOIN u.roles r WHERE r.name = 'STUDENT'")
+    Page<User> findStudents(Pageable pageable);
 }
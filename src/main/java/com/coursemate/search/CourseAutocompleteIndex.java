@@ -0,0 +1,213 @@
+package com.coursemate.search;
+
+import com.coursemate.cache.CacheRegistry;
+import com.coursemate.dto.CourseSuggestionDTO;
+import com.coursemate.event.CourseChangedEvent;
+import com.coursemate.repository.CourseRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index for course typeahead.
+ * Course codes and every word-suffix of each title ("intro to java",
+ * "to java", "java") are kept in sorted maps, so a prefix lookup is one
+ * O(log n) seek plus a walk over the matches. Reads never lock; writes
+ * are serialized and happen only when a course changes, on this node or
+ * (through a broadcast) on another one. A full reload builds a new index
+ * off to the side and publishes it in one volatile write, so readers see
+ * either the old index or the new one, never a half-loaded one.
+ */
+@Component
+public class CourseAutocompleteIndex {
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    private static final String BROADCAST_NAME = "search.autocomplete";
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    private volatile Index index = new Index();
+
+    @PostConstruct
+    public void init() {
+        cacheRegistry.register(BROADCAST_NAME, courseId -> {
+            if (courseId == null) {
+                reload();
+            } else {
+                reindex(Long.valueOf(courseId), false);
+            }
+        });
+    }
+
+    /**
+     * Return up to limit courses whose code or title words start with the prefix.
+     * Code matches come first, then title matches, each in key order.
+     */
+    public List<CourseSuggestionDTO> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Index current = index;
+        Set<Long> ids = new LinkedHashSet<>();
+        collect(current.codeIndex, key, limit, ids);
+        collect(current.titleIndex, key, limit, ids);
+
+        List<CourseSuggestionDTO> suggestions = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            CourseSuggestionDTO course = current.courses.get(id);
+            if (course != null) {
+                suggestions.add(course);
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Reload the index from the database, and have every other node do the same
+     */
+    public int reloadEverywhere() {
+        int loaded = reload();
+        cacheRegistry.broadcast(BROADCAST_NAME, null);
+        return loaded;
+    }
+
+    /**
+     * Replace this node's index contents with every course in the database
+     */
+    public synchronized int reload() {
+        Index loaded = new Index();
+        Long afterId = 0L;
+        PageRequest batch = PageRequest.of(0, LOAD_BATCH_SIZE, Sort.by("id"));
+        List<CourseSuggestionDTO> rows;
+        do {
+            rows = courseRepository.findCourseSuggestionsAfter(afterId, batch);
+            for (CourseSuggestionDTO course : rows) {
+                loaded.add(course);
+                afterId = course.getId();
+            }
+        } while (rows.size() == LOAD_BATCH_SIZE);
+        index = loaded;
+        return loaded.courses.size();
+    }
+
+    /**
+     * Apply a course change once its transaction has committed, here and on every other node
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        reindex(event.getCourseId(), event.isDeleted());
+        cacheRegistry.broadcast(BROADCAST_NAME, String.valueOf(event.getCourseId()));
+    }
+
+    // Helper to replace one course's entries with its current row, if it still exists
+    private synchronized void reindex(Long courseId, boolean deleted) {
+        Index current = index;
+        current.remove(courseId);
+        if (!deleted) {
+            courseRepository.findCourseSuggestionById(courseId).ifPresent(current::add);
+        }
+    }
+
+    public int getSize() {
+        return index.courses.size();
+    }
+
+    /**
+     * The sorted prefix maps and the courses they point at, swapped as a unit on reload
+     */
+    private static final class Index {
+
+        private final NavigableMap<String, Set<Long>> codeIndex = new ConcurrentSkipListMap<>();
+
+        private final NavigableMap<String, Set<Long>> titleIndex = new ConcurrentSkipListMap<>();
+
+        private final Map<Long, CourseSuggestionDTO> courses = new ConcurrentHashMap<>();
+
+        // Helper to index one course under its code and title word-suffixes
+        private void add(CourseSuggestionDTO course) {
+            courses.put(course.getId(), course);
+            put(codeIndex, normalize(course.getCourseCode()), course.getId());
+            for (String suffix : titleSuffixes(course.getTitle())) {
+                put(titleIndex, suffix, course.getId());
+            }
+        }
+
+        // Helper to drop every key a course was indexed under
+        private void remove(Long courseId) {
+            CourseSuggestionDTO previous = courses.remove(courseId);
+            if (previous == null) {
+                return;
+            }
+            delete(codeIndex, normalize(previous.getCourseCode()), courseId);
+            for (String suffix : titleSuffixes(previous.getTitle())) {
+                delete(titleIndex, suffix, courseId);
+            }
+        }
+    }
+
+    private static void collect(NavigableMap<String, Set<Long>> index, String prefix, int limit, Set<Long> ids) {
+        for (Set<Long> matches : index.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            for (Long id : matches) {
+                if (ids.size() >= limit) {
+                    return;
+                }
+                ids.add(id);
+            }
+        }
+    }
+
+    private static void put(NavigableMap<String, Set<Long>> index, String key, Long id) {
+        if (!key.isEmpty()) {
+            index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private static void delete(NavigableMap<String, Set<Long>> index, String key, Long id) {
+        Set<Long> ids = index.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static List<String> titleSuffixes(String title) {
+        String normalized = normalize(title);
+        List<String> suffixes = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return suffixes;
+        }
+        suffixes.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            suffixes.add(normalized.substring(i + 1));
+        }
+        return suffixes;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
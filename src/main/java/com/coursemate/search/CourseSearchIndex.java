@@ -0,0 +1,356 @@
+package com.coursemate.search;
+
+import com.coursemate.cache.CacheRegistry;
+import com.coursemate.dto.CourseDTO;
+import com.coursemate.event.CourseChangedEvent;
+import com.coursemate.repository.CourseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embedded Lucene index over course title, code, description and instructor name.
+ * Only course ids are stored; callers load the current rows for a page of hits.
+ * The index lives on local disk on every node. A node applies a course change
+ * once it commits and broadcasts it, so the other nodes reindex the course too;
+ * the index can be rebuilt from the database at any time.
+ */
+@Component
+public class CourseSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseSearchIndex.class);
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CODE = "code";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_INSTRUCTOR = "instructor";
+
+    // Field weights: an exact code or title hit outranks a mention in the description
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            FIELD_CODE, 4.0f,
+            FIELD_TITLE, 3.0f,
+            FIELD_INSTRUCTOR, 1.5f,
+            FIELD_DESCRIPTION, 1.0f);
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private static final String BROADCAST_NAME = "search.courses";
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Value("${app.search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.search.index-dir:${java.io.tmpdir}/coursemate/course-index}")
+    private String indexDir;
+
+    @Value("${app.search.max-result-window:1000}")
+    private int maxResultWindow;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    private FSDirectory directory;
+
+    private IndexWriter writer;
+
+    private SearcherManager searcherManager;
+
+    private volatile long lastRebuildAt;
+
+    private volatile long lastRebuildMs;
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Path path = Paths.get(indexDir);
+        Files.createDirectories(path);
+        directory = FSDirectory.open(path);
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+        cacheRegistry.register(BROADCAST_NAME, courseId -> {
+            if (courseId == null) {
+                rebuild();
+            } else {
+                reindex(Long.valueOf(courseId), false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (searcherManager != null) {
+            searcherManager.close();
+        }
+        if (writer != null) {
+            writer.close();
+        }
+        if (directory != null) {
+            directory.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * How deep into the ranked hits a page may reach (offset + limit)
+     */
+    public int getMaxResultWindow() {
+        return maxResultWindow;
+    }
+
+    /**
+     * Run a ranked query and return one page of matching course ids.
+     * Every query word must match some field, either exactly, as a prefix
+     * or within a small edit distance.
+     */
+    public SearchResult search(String text, int offset, int limit) {
+        if (offset < 0 || limit < 1 || (long) offset + limit > maxResultWindow) {
+            throw new IllegalArgumentException("Search page must lie within the first " + maxResultWindow
+                    + " hits, was offset " + offset + " limit " + limit);
+        }
+        Query query = buildQuery(text);
+        if (query == null) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopScoreDocCollector collector = TopScoreDocCollector.create(offset + limit, Integer.MAX_VALUE);
+                searcher.search(query, collector);
+                ScoreDoc[] hits = collector.topDocs(offset, limit).scoreDocs;
+
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(hits.length);
+                for (ScoreDoc hit : hits) {
+                    ids.add(Long.parseLong(storedFields.document(hit.doc).get(FIELD_ID)));
+                }
+                return new SearchResult(ids, collector.getTotalHits());
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Course search failed", e);
+        }
+    }
+
+    /**
+     * Replace the whole index with the courses currently in the database,
+     * and have every other node do the same
+     */
+    public int rebuildEverywhere() {
+        int indexed = rebuild();
+        cacheRegistry.broadcast(BROADCAST_NAME, null);
+        return indexed;
+    }
+
+    /**
+     * Replace this node's index with the courses currently in the database
+     */
+    public synchronized int rebuild() {
+        long startedAt = System.currentTimeMillis();
+        int indexed = 0;
+        try {
+            writer.deleteAll();
+            Long afterId = 0L;
+            PageRequest batch = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id"));
+            List<CourseDTO> courses;
+            do {
+                courses = courseRepository.findCourseSummariesAfter(afterId, batch);
+                for (CourseDTO course : courses) {
+                    writer.addDocument(toDocument(course));
+                    afterId = course.getId();
+                }
+                indexed += courses.size();
+            } while (courses.size() == REBUILD_BATCH_SIZE);
+            commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Course index rebuild failed", e);
+        }
+        lastRebuildAt = System.currentTimeMillis();
+        lastRebuildMs = lastRebuildAt - startedAt;
+        return indexed;
+    }
+
+    /**
+     * Reindex a course once the transaction that changed it has committed,
+     * here and on every other node
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        reindex(event.getCourseId(), event.isDeleted());
+        cacheRegistry.broadcast(BROADCAST_NAME, String.valueOf(event.getCourseId()));
+    }
+
+    /**
+     * Reload one course's document from the database, or drop it if the course is gone.
+     * A failure here must not fail the already committed request; the
+     * document stays stale until the next update or rebuild.
+     */
+    private synchronized void reindex(Long courseId, boolean deleted) {
+        try {
+            Term idTerm = new Term(FIELD_ID, String.valueOf(courseId));
+            CourseDTO course = deleted ? null : courseRepository.findCourseSummaryById(courseId).orElse(null);
+            if (course == null) {
+                writer.deleteDocuments(idTerm);
+            } else {
+                writer.updateDocument(idTerm, toDocument(course));
+            }
+            commit();
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to update search index for course {}", courseId, e);
+        }
+    }
+
+    public int getDocumentCount() {
+        return enabled ? writer.getDocStats().numDocs : 0;
+    }
+
+    public long getLastRebuildAt() {
+        return lastRebuildAt;
+    }
+
+    public long getLastRebuildMs() {
+        return lastRebuildMs;
+    }
+
+    // Helper to make committed changes durable and visible to new searches
+    private void commit() throws IOException {
+        writer.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    // Helper to map a course row to an index document
+    private Document toDocument(CourseDTO course) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(course.getId()), Field.Store.YES));
+        document.add(new TextField(FIELD_TITLE, nullToEmpty(course.getTitle()), Field.Store.NO));
+        document.add(new TextField(FIELD_CODE, nullToEmpty(course.getCourseCode()), Field.Store.NO));
+        document.add(new TextField(FIELD_DESCRIPTION, nullToEmpty(course.getDescription()), Field.Store.NO));
+        document.add(new TextField(FIELD_INSTRUCTOR, nullToEmpty(course.getInstructorName()), Field.Store.NO));
+        return document;
+    }
+
+    // Helper to build the ranked, prefix and typo tolerant query; null when no words remain
+    private Query buildQuery(String text) {
+        List<String> words = analyze(text);
+        if (words.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String word : words) {
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            for (Map.Entry<String, Float> field : FIELD_BOOSTS.entrySet()) {
+                Term term = new Term(field.getKey(), word);
+                float boost = field.getValue();
+                anyField.add(new BoostQuery(new TermQuery(term), boost), BooleanClause.Occur.SHOULD);
+                anyField.add(new BoostQuery(new PrefixQuery(term), boost * 0.5f), BooleanClause.Occur.SHOULD);
+                int maxEdits = word.length() >= 8 ? 2 : word.length() >= 4 ? 1 : 0;
+                if (maxEdits > 0) {
+                    anyField.add(new BoostQuery(new FuzzyQuery(term, maxEdits), boost * 0.3f),
+                            BooleanClause.Occur.SHOULD);
+                }
+            }
+            query.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    // Helper to split query text into the same lowercase tokens the index holds
+    private List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        try (TokenStream tokens = analyzer.tokenStream(FIELD_TITLE, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                words.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    /**
+     * One page of ranked course ids plus the total number of matches
+     */
+    public static final class SearchResult {
+        private final List<Long> ids;
+        private final long totalHits;
+
+        public SearchResult(List<Long> ids, long totalHits) {
+            this.ids = ids;
+            this.totalHits = totalHits;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public long getTotalHits() {
+            return totalHits;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.coursemate.security;
+
+import com.coursemate.exception.ServiceUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated pool for password hashing work (login and registration).
+ * BCrypt is CPU-bound, so the pool is sized to the core count and fronted by
+ * a bounded queue; when the queue is full, or a task waited too long to be
+ * worth running, the caller gets a 503 with Retry-After instead of a servlet
+ * thread being parked behind the hashing backlog.
+ */
+@Component
+public class AuthenticationExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthenticationExecutor.class);
+
+    @Value("${app.auth.executor.threads:0}")
+    private int threads;
+
+    @Value("${app.auth.executor.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${app.auth.executor.max-queue-wait-ms:5000}")
+    private long maxQueueWaitMs;
+
+    @Value("${app.auth.executor.retry-after-seconds:2}")
+    private long retryAfterSeconds;
+
+    private ThreadPoolExecutor executor;
+
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new AuthThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        logger.info("Authentication executor started ({} threads, queue capacity {})", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Run the task on the authentication pool.
+     * Throws ServiceUnavailableException immediately when the queue is full;
+     * the returned future fails the same way if the task expired in the queue.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long enqueuedAt = System.currentTimeMillis();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                if (System.currentTimeMillis() - enqueuedAt > maxQueueWaitMs) {
+                    expiredCount.incrementAndGet();
+                    throw overloaded();
+                }
+                T result = task.get();
+                completedCount.incrementAndGet();
+                return result;
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw overloaded();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("completed", completedCount.get());
+        stats.put("rejected", rejectedCount.get());
+        stats.put("expired", expiredCount.get());
+        return stats;
+    }
+
+    private ServiceUnavailableException overloaded() {
+        return new ServiceUnavailableException("Authentication service is busy. Please retry shortly.",
+                retryAfterSeconds);
+    }
+
+    private static final class AuthThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "auth-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
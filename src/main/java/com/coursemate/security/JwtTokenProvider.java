@@ -2,12 +2,28 @@ package com.coursemate.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * JWT Token provider for token generation and validation
@@ -15,31 +31,101 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    public static final String MODE_REFERENCE = "reference";
+    public static final String MODE_SELF_CONTAINED = "self-contained";
+
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_EMAIL = "email";
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_ENABLED = "enabled";
+    private static final String CLAIM_VERSION = "ver";
+
+    // MessageDigest is not thread-safe; one per thread avoids a provider lookup on every request
+    private static final ThreadLocal<MessageDigest> TOKEN_DIGEST = ThreadLocal.withInitial(JwtTokenProvider::newTokenDigest);
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
     @Value("${app.jwt.expiration}")
     private long jwtExpirationMs;
 
+    @Value("${app.jwt.mode:" + MODE_REFERENCE + "}")
+    private String tokenMode;
+
+    @Value("${app.jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
+    @Autowired
+    private TokenRevocationRegistry revocationRegistry;
+
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * Build the signing key and parser once; both are immutable and thread-safe
+     */
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        // Fail at startup rather than on the first request if SHA-256 is unavailable
+        TOKEN_DIGEST.get();
+    }
+
+    /**
+     * Whether tokens carry the full principal so requests skip the user lookup
+     */
+    public boolean isSelfContained() {
+        return MODE_SELF_CONTAINED.equalsIgnoreCase(tokenMode);
+    }
+
     /**
      * Generate JWT token from authentication
      */
     public String generateToken(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-        return generateTokenFromUsername(userPrincipal.getUsername());
+        return generateToken(userPrincipal);
+    }
+
+    /**
+     * Generate JWT token for a principal, embedding its claims in self-contained mode
+     */
+    public String generateToken(UserPrincipal userPrincipal) {
+        if (!isSelfContained()) {
+            return generateTokenFromUsername(userPrincipal.getUsername());
+        }
+
+        List<String> roles = userPrincipal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+
+        return Jwts.builder()
+                .setSubject(userPrincipal.getUsername())
+                .claim(CLAIM_USER_ID, userPrincipal.getId())
+                .claim(CLAIM_EMAIL, userPrincipal.getEmail())
+                .claim(CLAIM_ROLES, roles)
+                .claim(CLAIM_ENABLED, userPrincipal.isEnabled())
+                .claim(CLAIM_VERSION, revocationRegistry.currentVersion(userPrincipal.getId()))
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
+                .signWith(signingKey, SignatureAlgorithm.HS512)
+                .compact();
     }
 
     /**
      * Generate JWT token from username
      */
     public String generateTokenFromUsername(String username) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-
         return Jwts.builder()
                 .setSubject(username)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(key, SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -47,36 +133,130 @@ public class JwtTokenProvider {
      * Get username from JWT token
      */
     public String getUsernameFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseValidatedClaims(token).getSubject();
+    }
+
+    /**
+     * Build a principal from the verified claims of a self-contained token.
+     * Returns null for tokens that only carry a subject.
+     */
+    public UserPrincipal getPrincipalFromToken(String token) {
+        return getPrincipalFromClaims(parseValidatedClaims(token));
+    }
+
+    /**
+     * Build a principal from already verified claims.
+     * Returns null for tokens that only carry a subject.
+     */
+    public UserPrincipal getPrincipalFromClaims(Claims claims) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        if (userId == null) {
+            return null;
+        }
+
+        List<?> roles = claims.get(CLAIM_ROLES, List.class);
+        List<GrantedAuthority> authorities = roles == null ? Collections.emptyList() : roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.toString()))
+                .collect(Collectors.toList());
+        Boolean enabled = claims.get(CLAIM_ENABLED, Boolean.class);
+
+        return new UserPrincipal(
+                userId,
+                claims.getSubject(),
+                claims.get(CLAIM_EMAIL, String.class),
+                null,
+                authorities,
+                enabled == null || enabled
+        );
     }
 
     /**
      * Validate JWT token
      */
     public boolean validateToken(String token) {
+        parseValidatedClaims(token);
+        return true;
+    }
+
+    /**
+     * Verify the token once and return its claims.
+     * Verified tokens are cached by hash until they expire, so repeated
+     * requests with the same token skip the HMAC check.
+     */
+    public Claims parseValidatedClaims(String token) {
+        long now = System.currentTimeMillis();
+        String tokenHash = hash(token);
+
+        VerifiedToken verified = verifiedTokens.get(tokenHash);
+        if (verified != null && verified.expiresAt > now) {
+            checkNotRevoked(verified.claims);
+            return verified.claims;
+        }
+
+        Claims claims = parseClaims(token);
+        checkNotRevoked(claims);
+
+        if (claims.getExpiration() != null) {
+            if (verifiedTokens.size() >= verifiedCacheMaxSize) {
+                verifiedTokens.values().removeIf(entry -> entry.expiresAt <= now);
+            }
+            if (verifiedTokens.size() < verifiedCacheMaxSize) {
+                verifiedTokens.put(tokenHash, new VerifiedToken(claims, claims.getExpiration().getTime()));
+            }
+        }
+        return claims;
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (SecurityException e) {
-            throw new RuntimeException("Invalid JWT signature: " + e.getMessage());
-        } catch (MalformedJwtException e) {
-            throw new RuntimeException("Invalid JWT token: " + e.getMessage());
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
-            throw new RuntimeException("Expired JWT token: " + e.getMessage());
+            throw new CredentialsExpiredException("Expired JWT token: " + e.getMessage());
         } catch (UnsupportedJwtException e) {
-            throw new RuntimeException("Unsupported JWT token: " + e.getMessage());
+            throw new BadCredentialsException("Unsupported JWT token: " + e.getMessage());
+        } catch (JwtException e) {
+            // Malformed tokens and bad signatures
+            throw new BadCredentialsException("Invalid JWT token: " + e.getMessage());
         } catch (IllegalArgumentException e) {
-            throw new RuntimeException("JWT claims string is empty: " + e.getMessage());
+            throw new BadCredentialsException("JWT claims string is empty: " + e.getMessage());
+        }
+    }
+
+    private String hash(String token) {
+        if (token == null) {
+            throw new BadCredentialsException("JWT token is missing");
+        }
+        // digest() resets the instance, so the thread's digest is ready for the next token
+        byte[] digest = TOKEN_DIGEST.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    private static MessageDigest newTokenDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required to cache verified JWT tokens", e);
+        }
+    }
+
+    private void checkNotRevoked(Claims claims) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        Integer version = claims.get(CLAIM_VERSION, Integer.class);
+        if (userId != null && version != null && revocationRegistry.isRevoked(userId, version)) {
+            throw new BadCredentialsException("Revoked JWT token for user id: " + userId);
+        }
+        if (Boolean.FALSE.equals(claims.get(CLAIM_ENABLED, Boolean.class))) {
+            throw new DisabledException("JWT token issued for a disabled user: " + claims.getSubject());
+        }
+    }
+
+    private static final class VerifiedToken {
+        private final Claims claims;
+        private final long expiresAt;
+
+        private VerifiedToken(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
         }
     }
 }
@@ -0,0 +1,65 @@
+package com.coursemate.security;
+
+import com.coursemate.cache.CacheRegistry;
+import com.coursemate.cache.TwoTierCache;
+import com.coursemate.event.UserChangedEvent;
+import com.coursemate.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Per-user token versions, read from the users row.
+ * Self-contained tokens carry the version they were issued with; bumping a
+ * user's version (User.revokeTokens) revokes every token issued before the bump.
+ * Versions are cached in a two-tier cache and evicted on every node once the
+ * change commits, so a revocation on one node applies everywhere.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    // Cached in place of a version for users whose row no longer exists
+    private static final int DELETED = -1;
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.security.token-versions.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${app.security.token-versions.max-size:10000}")
+    private int maxSize;
+
+    private TwoTierCache<Long, Integer> versions;
+
+    @PostConstruct
+    public void init() {
+        versions = cacheRegistry.create("security.tokenVersions", true, maxSize, ttlMs);
+    }
+
+    /**
+     * Get the token version new tokens for this user should carry
+     */
+    public int currentVersion(Long userId) {
+        return versions.get(userId, () -> userRepository.findTokenVersionById(userId).orElse(DELETED));
+    }
+
+    /**
+     * Whether a token issued with this version is no longer valid, including
+     * tokens of deleted users
+     */
+    public boolean isRevoked(Long userId, int tokenVersion) {
+        int current = currentVersion(userId);
+        return current == DELETED || tokenVersion < current;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        versions.invalidate(event.getUserId());
+    }
+}
@@ -14,15 +14,22 @@ public class UserPrincipal implements UserDetails {
     private Long id;
     private String username;
     private String email;
+    private String fullName;
     private String password;
     private Collection<? extends GrantedAuthority> authorities;
     private boolean enabled;
 
     public UserPrincipal(Long id, String username, String email, String password,
                          Collection<? extends GrantedAuthority> authorities, boolean enabled) {
+        this(id, username, email, null, password, authorities, enabled);
+    }
+
+    public UserPrincipal(Long id, String username, String email, String fullName, String password,
+                         Collection<? extends GrantedAuthority> authorities, boolean enabled) {
         this.id = id;
         this.username = username;
         this.email = email;
+        this.fullName = fullName;
         this.password = password;
         this.authorities = authorities;
         this.enabled = enabled;
@@ -33,6 +40,7 @@ public class UserPrincipal implements UserDetails {
                 user.getId(),
                 user.getUsername(),
                 user.getEmail(),
+                user.getFullName(),
                 user.getPassword(),
                 user.getAuthorities(),
                 user.isEnabled()
@@ -47,6 +55,10 @@ public class UserPrincipal implements UserDetails {
         return email;
     }
 
+    public String getFullName() {
+        return fullName;
+    }
+
     @Override
     public String getUsername() {
         return username;
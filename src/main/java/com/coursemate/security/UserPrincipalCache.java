@@ -0,0 +1,83 @@
+package com.coursemate.security;
+
+import com.coursemate.cache.CacheRegistry;
+import com.coursemate.cache.TwoTierCache;
+import com.coursemate.event.UserChangedEvent;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals keyed by username.
+ * Lets the JWT filter authenticate requests without a database round-trip.
+ * Backed by a two-tier cache, so an eviction on one node reaches every node.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPrincipalCache.class);
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Value("${app.security.principal-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.security.principal-cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    @Value("${app.security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private TwoTierCache<String, UserDetails> principals;
+
+    @PostConstruct
+    public void init() {
+        principals = cacheRegistry.create("security.principals", enabled, maxSize, ttlMs);
+    }
+
+    /**
+     * Return the cached principal for the username, loading it on a miss
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return principals.get(username, () -> loader.apply(username));
+    }
+
+    /**
+     * Drop the cached principal after a profile, status or role change
+     */
+    public void evict(String username) {
+        if (username != null) {
+            principals.invalidate(username);
+            logger.debug("Evicted cached principal for user: {}", username);
+        }
+    }
+
+    /**
+     * Evict once the change has committed, so a concurrent request cannot
+     * reload the old row into the cache after the eviction
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUsername());
+    }
+
+    public void evictAll() {
+        principals.invalidateAll();
+    }
+
+    /**
+     * Per-tier metrics of the underlying two-tier cache
+     */
+    public Map<String, Object> getStats() {
+        return principals.getStats();
+    }
+}
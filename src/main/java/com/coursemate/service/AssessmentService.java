@@ -1,6 +1,7 @@
 package com.coursemate.service;
 
 import com.coursemate.dto.AssessmentDTO;
+import com.coursemate.dto.AssessmentStatsDTO;
 import java.util.List;
 
 /**
@@ -16,6 +17,11 @@ public interface AssessmentService {
 
     void deleteAssessment(Long id);
 
+    /**
+     * Read the running submission statistics for an assessment
+     */
+    AssessmentStatsDTO getAssessmentStats(Long id);
+
     List<AssessmentDTO> getAssessmentsByCourse(Long courseId);
 
     List<AssessmentDTO> getPublishedAssessmentsByCourse(Long courseId);
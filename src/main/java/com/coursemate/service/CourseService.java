@@ -1,6 +1,8 @@
 package com.coursemate.service;
 
 import com.coursemate.dto.CourseDTO;
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.PageQuery;
 import java.util.List;
 
 /**
@@ -18,13 +20,33 @@ public interface CourseService {
 
     List<CourseDTO> getAllCourses();
 
+    CursorPage<CourseDTO> getCourses(PageQuery pageQuery);
+
     List<CourseDTO> getActiveCourses();
 
     List<CourseDTO> getCoursesByInstructor(Long instructorId);
 
     List<CourseDTO> getEnrolledCourses(Long studentId);
 
-    List<CourseDTO> searchCourses(String keyword);
+    /**
+     * Ranked full-text search over title, code, description and instructor name
+     */
+    CursorPage<CourseDTO> searchCourses(String keyword, PageQuery pageQuery);
+
+    /**
+     * Typeahead over course codes and title words, served from memory
+     */
+    List<CourseSuggestionDTO> autocompleteCourses(String prefix, int limit);
+
+    /**
+     * Rebuild the course search and autocomplete indexes from the database on every node; returns the number of courses indexed
+     */
+    int rebuildSearchIndex();
+
+    /**
+     * Recount every course's seat counter from its active enrollments; returns the number of courses updated
+     */
+    int resyncSeatCounts();
 
     CourseDTO getByCourseCode(String courseCode);
 }
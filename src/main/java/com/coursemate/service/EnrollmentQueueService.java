@@ -0,0 +1,15 @@
+package com.coursemate.service;
+
+import com.coursemate.dto.EnrollmentTicketDTO;
+
+/**
+ * Enrollment queue service interface
+ */
+public interface EnrollmentQueueService {
+
+    boolean isEnabled();
+
+    EnrollmentTicketDTO submit(Long studentId, Long courseId);
+
+    EnrollmentTicketDTO getTicket(String ticketId);
+}
@@ -1,6 +1,13 @@
 package com.coursemate.service;
 
+import com.coursemate.dto.BulkOperationReport;
+import com.coursemate.dto.CursorPage;
 import com.coursemate.dto.EnrollmentDTO;
+import com.coursemate.dto.EnrollmentTicketDTO;
+import com.coursemate.dto.PageQuery;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -10,6 +17,22 @@ public interface EnrollmentService {
 
     EnrollmentDTO enrollStudent(Long studentId, Long courseId);
 
+    /**
+     * Enroll a batch of queued requests for one course in a single transaction,
+     * in FIFO order up to the free seats. Returns the tickets with their outcome.
+     */
+    List<EnrollmentTicketDTO> enrollBatch(Long courseId, List<EnrollmentTicketDTO> tickets);
+
+    /**
+     * Enroll many students into one course with batched inserts and a per-row report
+     */
+    BulkOperationReport bulkEnroll(Long courseId, List<Long> studentIds);
+
+    /**
+     * Same as bulkEnroll, reading student ids from the first CSV column (header optional)
+     */
+    BulkOperationReport bulkEnrollFromCsv(Long courseId, InputStream csv) throws IOException;
+
     EnrollmentDTO getEnrollmentById(Long id);
 
     EnrollmentDTO updateEnrollment(Long id, EnrollmentDTO enrollmentDTO);
@@ -20,6 +43,8 @@ public interface EnrollmentService {
 
     List<EnrollmentDTO> getEnrollmentsByCourse(Long courseId);
 
+    CursorPage<EnrollmentDTO> getEnrollmentsByCourse(Long courseId, PageQuery pageQuery);
+
     EnrollmentDTO getStudentEnrollmentInCourse(Long studentId, Long courseId);
 
     Long countCourseEnrollments(Long courseId);
@@ -10,6 +10,11 @@ public interface ProgressService {
 
     ProgressDTO getProgressByStudentAndCourse(Long studentId, Long courseId);
 
+    /**
+     * Read the maintained progress for the current student; never writes
+     */
+    ProgressDTO getMyProgress(Long studentId, Long courseId);
+
     ProgressDTO updateProgress(Long id, ProgressDTO progressDTO);
 
     List<ProgressDTO> getProgressByStudent(Long studentId);
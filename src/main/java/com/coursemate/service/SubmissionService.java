@@ -1,6 +1,15 @@
 package com.coursemate.service;
 
+import com.coursemate.dto.BulkOperationReport;
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.ExportFormat;
+import com.coursemate.dto.GradeRequest;
+import com.coursemate.dto.PageQuery;
 import com.coursemate.dto.SubmissionDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -14,10 +23,32 @@ public interface SubmissionService {
 
     SubmissionDTO gradeSubmission(Long id, Double marksObtained, String feedback);
 
+    /**
+     * Grade many submissions at once with a per-row report
+     */
+    BulkOperationReport bulkGrade(List<GradeRequest> grades);
+
+    /**
+     * Same as bulkGrade, reading submissionId,marks,feedback rows from CSV (header optional)
+     */
+    BulkOperationReport bulkGradeFromCsv(InputStream csv) throws IOException;
+
     void deleteSubmission(Long id);
 
     List<SubmissionDTO> getSubmissionsByAssessment(Long assessmentId);
 
+    CursorPage<SubmissionDTO> getSubmissionsByAssessment(Long assessmentId, PageQuery pageQuery);
+
+    /**
+     * Check the assessment exists and name its export file
+     */
+    String getExportFileName(Long assessmentId, ExportFormat format);
+
+    /**
+     * Write every submission of an assessment to the stream, row by row
+     */
+    void exportSubmissionsByAssessment(Long assessmentId, ExportFormat format, OutputStream out) throws IOException;
+
     List<SubmissionDTO> getSubmissionsByStudent(Long studentId);
 
     SubmissionDTO getStudentSubmissionForAssessment(Long studentId, Long assessmentId);
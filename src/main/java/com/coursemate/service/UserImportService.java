@@ -0,0 +1,20 @@
+package com.coursemate.service;
+
+import com.coursemate.dto.BulkOperationReport;
+import com.coursemate.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Bulk user import service interface
+ */
+public interface UserImportService {
+
+    /**
+     * Create users from a CSV (with header) or NDJSON file of registration rows.
+     * Rows are validated and deduplicated individually and reported per row.
+     * Each chunk of rows commits on its own; rows past the row limit are not imported.
+     */
+    BulkOperationReport importUsers(InputStream in, ExportFormat format) throws IOException;
+}
@@ -1,8 +1,11 @@
 package com.coursemate.service;
 
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.PageQuery;
 import com.coursemate.dto.UserDTO;
 import com.coursemate.entity.User;
 import java.util.List;
+import java.util.Set;
 
 /**
  * User service interface
@@ -19,12 +22,20 @@ public interface UserService {
 
     void deleteUser(Long id);
 
+    UserDTO setUserActive(Long id, boolean active);
+
+    UserDTO updateUserRoles(Long id, Set<String> roleNames);
+
     List<UserDTO> getAllInstructors();
 
     List<UserDTO> getAllStudents();
 
+    CursorPage<UserDTO> getStudents(PageQuery pageQuery);
+
     List<UserDTO> getAllUsers();
 
+    CursorPage<UserDTO> getUsers(PageQuery pageQuery);
+
     Boolean existsByUsername(String username);
 
     Boolean existsByEmail(String email);
@@ -1,22 +1,32 @@
 package com.coursemate.service.impl;
 
+import com.coursemate.cache.AssessmentCache;
 import com.coursemate.dto.AssessmentDTO;
+import com.coursemate.dto.AssessmentStatsDTO;
 import com.coursemate.entity.Assessment;
+import com.coursemate.entity.AssessmentStats;
 import com.coursemate.entity.Course;
+import com.coursemate.event.AssessmentCreatedEvent;
+import com.coursemate.event.AssessmentDeletedEvent;
+import com.coursemate.event.AssessmentRescheduledEvent;
+import com.coursemate.event.AssessmentUpdatedEvent;
 import com.coursemate.exception.BadRequestException;
 import com.coursemate.exception.ResourceNotFoundException;
 import com.coursemate.repository.AssessmentRepository;
+import com.coursemate.repository.AssessmentStatsRepository;
 import com.coursemate.repository.CourseRepository;
 import com.coursemate.service.AssessmentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 /**
  * Assessment service implementation
@@ -31,6 +41,15 @@ public class AssessmentServiceImpl implements AssessmentService {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private AssessmentStatsRepository assessmentStatsRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private AssessmentCache assessmentCache;
+
     @Override
     public AssessmentDTO createAssessment(AssessmentDTO assessmentDTO) {
         Course course = courseRepository.findById(assessmentDTO.getCourseId())
@@ -39,7 +58,7 @@ public class AssessmentServiceImpl implements AssessmentService {
         Assessment assessment = new Assessment();
         assessment.setTitle(assessmentDTO.getTitle());
         assessment.setDescription(assessmentDTO.getDescription());
-        assessment.setType(Assessment.AssessmentType.valueOf(assessmentDTO.getType()));
+        assessment.setType(parseType(assessmentDTO.getType()));
         assessment.setCourse(course);
         assessment.setTotalMarks(assessmentDTO.getTotalMarks());
         assessment.setPassingMarks(assessmentDTO.getPassingMarks());
@@ -47,14 +66,19 @@ public class AssessmentServiceImpl implements AssessmentService {
         assessment.setIsPublished(false);
 
         Assessment savedAssessment = assessmentRepository.save(assessment);
-        return convertToDTO(savedAssessment);
+        eventPublisher.publishEvent(new AssessmentCreatedEvent(savedAssessment.getId(), course.getId()));
+        return convertToDTO(savedAssessment, 0);
     }
 
+    /**
+     * Cache misses load from the primary (not read-only), so a replica that
+     * has not seen the latest change cannot refill the cache with the old row
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AssessmentDTO getAssessmentById(Long id) {
-        Assessment assessment = assessmentRepository.findById(id)
-                .orElseThrow(() -> ResourceNotFoundException.of("Assessment", "id", id));
-        return convertToDTO(assessment);
+        return assessmentCache.getById(id, () -> assessmentRepository.findAssessmentSummaryById(id)
+                .orElseThrow(() -> ResourceNotFoundException.of("Assessment", "id", id)));
     }
 
     @Override
@@ -62,13 +86,22 @@ public class AssessmentServiceImpl implements AssessmentService {
         Assessment assessment = assessmentRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.of("Assessment", "id", id));
 
+        Date dueDate = convertLocalDateTimeToDate(assessmentDTO.getDueDate());
+        boolean rescheduled = !Objects.equals(
+                assessment.getDueDate() == null ? null : assessment.getDueDate().getTime(),
+                dueDate == null ? null : dueDate.getTime());
+
         assessment.setTitle(assessmentDTO.getTitle());
         assessment.setDescription(assessmentDTO.getDescription());
         assessment.setTotalMarks(assessmentDTO.getTotalMarks());
         assessment.setPassingMarks(assessmentDTO.getPassingMarks());
-        assessment.setDueDate(convertLocalDateTimeToDate(assessmentDTO.getDueDate()));
+        assessment.setDueDate(dueDate);
 
         Assessment updatedAssessment = assessmentRepository.save(assessment);
+        eventPublisher.publishEvent(new AssessmentUpdatedEvent(id, assessment.getCourse().getId()));
+        if (rescheduled) {
+            eventPublisher.publishEvent(new AssessmentRescheduledEvent(id, assessment.getCourse().getId()));
+        }
         return convertToDTO(updatedAssessment);
     }
 
@@ -76,21 +109,37 @@ public class AssessmentServiceImpl implements AssessmentService {
     public void deleteAssessment(Long id) {
         Assessment assessment = assessmentRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.of("Assessment", "id", id));
+        Long courseId = assessment.getCourse().getId();
         assessmentRepository.delete(assessment);
+        eventPublisher.publishEvent(new AssessmentDeletedEvent(id, courseId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AssessmentStatsDTO getAssessmentStats(Long id) {
+        AssessmentStats stats = assessmentStatsRepository.findById(id).orElse(null);
+        if (stats == null) {
+            if (!assessmentRepository.existsById(id)) {
+                throw ResourceNotFoundException.of("Assessment", "id", id);
+            }
+            stats = new AssessmentStats(id);
+        }
+        return new AssessmentStatsDTO(stats.getAssessmentId(), stats.getSubmissionCount(), stats.getGradedCount(),
+                stats.getLateCount(), stats.getAverageMarks(), stats.getMinMarks(), stats.getMaxMarks(),
+                stats.getStandardDeviation(), convertDateToLocalDateTime(stats.getLastUpdated()));
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<AssessmentDTO> getAssessmentsByCourse(Long courseId) {
-        return assessmentRepository.findByCourseId(courseId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return assessmentCache.getByCourse(courseId,
+                () -> assessmentRepository.findAssessmentSummariesByCourseId(courseId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AssessmentDTO> getPublishedAssessmentsByCourse(Long courseId) {
-        return assessmentRepository.findPublishedAssessmentsByCourseId(courseId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return assessmentRepository.findPublishedAssessmentSummariesByCourseId(courseId);
     }
 
     @Override
@@ -104,18 +153,35 @@ public class AssessmentServiceImpl implements AssessmentService {
 
         assessment.setIsPublished(true);
         Assessment updatedAssessment = assessmentRepository.save(assessment);
+        eventPublisher.publishEvent(new AssessmentUpdatedEvent(id, assessment.getCourse().getId()));
         return convertToDTO(updatedAssessment);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AssessmentDTO> getAssessmentsByType(Long courseId, String type) {
-        return assessmentRepository.findAssessmentsByTypeAndCourse(courseId, type).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return assessmentRepository.findAssessmentSummariesByTypeAndCourse(courseId, parseType(type));
+    }
+
+    // Helper to parse an assessment type path or body value
+    private Assessment.AssessmentType parseType(String type) {
+        try {
+            return Assessment.AssessmentType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestException("Invalid assessment type: " + type);
+        }
     }
 
     // Helper method to convert Assessment to AssessmentDTO
     private AssessmentDTO convertToDTO(Assessment assessment) {
+        int submissionCount = assessmentStatsRepository.findById(assessment.getId())
+                .map(stats -> stats.getSubmissionCount().intValue())
+                .orElse(0);
+        return convertToDTO(assessment, submissionCount);
+    }
+
+    // Helper method to convert Assessment to AssessmentDTO with a known submission count
+    private AssessmentDTO convertToDTO(Assessment assessment, int submissionCount) {
         AssessmentDTO dto = new AssessmentDTO();
         dto.setId(assessment.getId());
         dto.setTitle(assessment.getTitle());
@@ -127,7 +193,7 @@ public class AssessmentServiceImpl implements AssessmentService {
         dto.setPassingMarks(assessment.getPassingMarks());
         dto.setDueDate(convertDateToLocalDateTime(assessment.getDueDate()));
         dto.setIsPublished(assessment.getIsPublished());
-        dto.setSubmissionCount(assessment.getSubmissions().size());
+        dto.setSubmissionCount(submissionCount);
         return dto;
     }
 
@@ -10,15 +10,20 @@ import com.coursemate.exception.ResourceNotFoundException;
 import com.coursemate.repository.RoleRepository;
 import com.coursemate.repository.UserRepository;
 import com.coursemate.security.JwtTokenProvider;
+import com.coursemate.security.UserPrincipal;
 import com.coursemate.service.AuthService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -46,7 +51,15 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private JwtTokenProvider tokenProvider;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Runs outside a service transaction so no connection is held during the
+     * BCrypt encode; only the role lookup and insert share a short one.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse register(RegisterRequest registerRequest) {
         // Validate input
         if (userRepository.existsByUsername(registerRequest.getUsername())) {
@@ -65,19 +78,21 @@ public class AuthServiceImpl implements AuthService {
         user.setEmail(registerRequest.getEmail());
         user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
 
-        // Assign role
-        String roleName = registerRequest.getRole().toUpperCase();
-        Role role = roleRepository.findByName(Role.RoleType.valueOf(roleName))
-                .orElseThrow(() -> new BadRequestException("Role not found: " + roleName));
+        User savedUser = new TransactionTemplate(transactionManager).execute(status -> {
+            // Assign role
+            String roleName = registerRequest.getRole().toUpperCase();
+            Role role = roleRepository.findByName(Role.RoleType.valueOf(roleName))
+                    .orElseThrow(() -> new BadRequestException("Role not found: " + roleName));
 
-        Set<Role> roles = new HashSet<>();
-        roles.add(role);
-        user.setRoles(roles);
+            Set<Role> roles = new HashSet<>();
+            roles.add(role);
+            user.setRoles(roles);
 
-        User savedUser = userRepository.save(user);
+            return userRepository.save(user);
+        });
 
         // Generate token
-        String token = tokenProvider.generateTokenFromUsername(savedUser.getUsername());
+        String token = tokenProvider.generateToken(UserPrincipal.create(savedUser));
 
         Set<String> userRoles = savedUser.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -93,7 +108,13 @@ public class AuthServiceImpl implements AuthService {
         );
     }
 
+    /**
+     * Runs outside a service transaction so no connection is held during the
+     * BCrypt check; the user load and any hash upgrade use their own short ones.
+     * The authenticated principal already carries everything the response needs.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse login(LoginRequest loginRequest) {
         // Authenticate user
         Authentication authentication = authenticationManager.authenticate(
@@ -103,26 +124,29 @@ public class AuthServiceImpl implements AuthService {
                 )
         );
 
-        // Generate token
-        String token = tokenProvider.generateToken(authentication);
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
 
-        User user = userRepository.findByUsername(loginRequest.getUsername())
-                .orElseThrow(() -> new ResourceNotFoundException("User", "username", loginRequest.getUsername()));
+        // Generate token
+        String token = tokenProvider.generateToken(principal);
 
-        Set<String> userRoles = user.getAuthorities().stream()
+        Set<String> userRoles = principal.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toSet());
 
         return new AuthResponse(
                 token,
-                user.getId(),
-                user.getUsername(),
-                user.getEmail(),
-                user.getFullName(),
+                principal.getId(),
+                principal.getUsername(),
+                principal.getEmail(),
+                principal.getFullName(),
                 userRoles
         );
     }
 
+    /**
+     * Runs on the primary (not read-only) so a deleted or deactivated user
+     * cannot renew a token from a lagging replica
+     */
     @Override
     public AuthResponse refreshToken(String token) {
         if (!tokenProvider.validateToken(token)) {
@@ -130,10 +154,14 @@ public class AuthServiceImpl implements AuthService {
         }
 
         String username = tokenProvider.getUsernameFromToken(token);
-        String newToken = tokenProvider.generateTokenFromUsername(username);
 
         User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+                .orElseThrow(() -> ResourceNotFoundException.of("User", "username", username));
+        if (!user.isEnabled()) {
+            throw new DisabledException("User is disabled: " + username);
+        }
+
+        String newToken = tokenProvider.generateToken(UserPrincipal.create(user));
 
         Set<String> userRoles = user.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -1,18 +1,34 @@
 package com.coursemate.service.impl;
 
+import com.coursemate.cache.CourseCatalogCache;
 import com.coursemate.dto.CourseDTO;
+import com.coursemate.dto.CourseSuggestionDTO;
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.PageInfo;
+import com.coursemate.dto.PageQuery;
 import com.coursemate.entity.Course;
 import com.coursemate.entity.User;
+import com.coursemate.event.CourseChangedEvent;
 import com.coursemate.exception.BadRequestException;
 import com.coursemate.exception.ResourceNotFoundException;
 import com.coursemate.repository.CourseRepository;
 import com.coursemate.repository.UserRepository;
+import com.coursemate.search.CourseAutocompleteIndex;
+import com.coursemate.search.CourseSearchIndex;
 import com.coursemate.service.CourseService;
+import com.coursemate.util.PageResults;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -22,12 +38,31 @@ import java.util.stream.Collectors;
 @Transactional
 public class CourseServiceImpl implements CourseService {
 
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "title", "courseCode", "credits");
+
+    private static final int MAX_SUGGESTIONS = 50;
+
     @Autowired
     private CourseRepository courseRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private SeatReservationGate seatGate;
+
+    @Autowired
+    private CourseSearchIndex courseSearchIndex;
+
+    @Autowired
+    private CourseAutocompleteIndex courseAutocompleteIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CourseCatalogCache catalogCache;
+
     @Override
     public CourseDTO createCourse(CourseDTO courseDTO, Long instructorId) {
         // Validate course code uniqueness
@@ -49,14 +84,19 @@ public class CourseServiceImpl implements CourseService {
         course.setInstructor(instructor);
 
         Course savedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(savedCourse.getId(), false));
         return convertToDTO(savedCourse);
     }
 
+    /**
+     * Catalog cache misses load from the primary (not read-only): a lagging
+     * replica would put a just-invalidated course back into the cache
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CourseDTO getCourseById(Long id) {
-        Course course = courseRepository.findById(id)
-                .orElseThrow(() -> ResourceNotFoundException.of("Course", "id", id));
-        return convertToDTO(course);
+        return catalogCache.getById(id, () -> courseRepository.findCourseSummaryById(id)
+                .orElseThrow(() -> ResourceNotFoundException.of("Course", "id", id)));
     }
 
     @Override
@@ -71,6 +111,9 @@ public class CourseServiceImpl implements CourseService {
         course.setIsActive(courseDTO.getIsActive());
 
         Course updatedCourse = courseRepository.save(course);
+        // Capacity may have been raised
+        seatGate.markAvailable(id);
+        eventPublisher.publishEvent(new CourseChangedEvent(id, false));
         return convertToDTO(updatedCourse);
     }
 
@@ -79,48 +122,140 @@ public class CourseServiceImpl implements CourseService {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.of("Course", "id", id));
         courseRepository.delete(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(id, true));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CourseDTO> getAllCourses() {
-        return courseRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return courseRepository.findAllCourseSummaries();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<CourseDTO> getCourses(PageQuery pageQuery) {
+        if (pageQuery.isOffset()) {
+            return PageResults.fromPage(
+                    courseRepository.findCourseSummaries(PageResults.offsetPageable(pageQuery, SORTABLE_FIELDS)),
+                    Function.identity());
+        }
+        Long seekId = PageResults.seekId(pageQuery);
+        List<CourseDTO> rows = pageQuery.isDescending()
+                ? courseRepository.findCourseSummariesBefore(seekId, PageResults.keysetPageable(pageQuery))
+                : courseRepository.findCourseSummariesAfter(seekId, PageResults.keysetPageable(pageQuery));
+        return PageResults.fromKeyset(rows, pageQuery, CourseDTO::getId, Function.identity());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CourseDTO> getActiveCourses() {
-        return courseRepository.findByIsActiveTrue().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return catalogCache.getActive(courseRepository::findActiveCourseSummaries,
+                courseRepository::findCourseSummariesByIdIn);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CourseDTO> getCoursesByInstructor(Long instructorId) {
-        return courseRepository.findByInstructorId(instructorId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return catalogCache.getByInstructor(instructorId,
+                () -> courseRepository.findCourseSummariesByInstructor(instructorId),
+                courseRepository::findCourseSummariesByIdIn);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CourseDTO> getEnrolledCourses(Long studentId) {
-        return courseRepository.findEnrolledCourses(studentId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return courseRepository.findEnrolledCourseSummaries(studentId);
     }
 
     @Override
-    public List<CourseDTO> searchCourses(String keyword) {
-        return courseRepository.searchCourses(keyword).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<CourseDTO> searchCourses(String keyword, PageQuery pageQuery) {
+        int limit = pageQuery.limit();
+        int window = courseSearchIndex.getMaxResultWindow();
+        int offset = searchOffset(pageQuery, limit, window);
+        // The last reachable page may be cut short by the window
+        int pageLimit = Math.min(limit, window - offset);
+
+        if (!courseSearchIndex.isEnabled()) {
+            // Index switched off: substring match, paged in memory
+            List<CourseDTO> matches = courseRepository.searchCourseSummaries(keyword);
+            List<CourseDTO> items = matches.subList(Math.min(offset, matches.size()),
+                    Math.min(offset + pageLimit, matches.size()));
+            return toSearchPage(items, offset, limit, matches.size(), window);
+        }
+
+        CourseSearchIndex.SearchResult result = courseSearchIndex.search(keyword, offset, pageLimit);
+        List<CourseDTO> items = List.of();
+        if (!result.getIds().isEmpty()) {
+            // Load the current rows for this page and keep the index ranking
+            Map<Long, Integer> rank = new HashMap<>();
+            for (int i = 0; i < result.getIds().size(); i++) {
+                rank.put(result.getIds().get(i), i);
+            }
+            items = courseRepository.findCourseSummariesByIdIn(result.getIds()).stream()
+                    .sorted(Comparator.comparing(course -> rank.get(course.getId())))
+                    .collect(Collectors.toList());
+        }
+        return toSearchPage(items, offset, limit, result.getTotalHits(), window);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CourseSuggestionDTO> autocompleteCourses(String prefix, int limit) {
+        // Memory only: no transaction, so no pooled connection is taken per keystroke
+        return courseAutocompleteIndex.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    @Override
+    public int rebuildSearchIndex() {
+        int loaded = courseAutocompleteIndex.reloadEverywhere();
+        return courseSearchIndex.isEnabled() ? courseSearchIndex.rebuildEverywhere() : loaded;
     }
 
     @Override
+    public int resyncSeatCounts() {
+        // Repair task only: the counters are kept by the enrollment paths and backfilled by the migration
+        return courseRepository.resyncSeatCounts();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CourseDTO getByCourseCode(String courseCode) {
-        Course course = courseRepository.findByCourseCode(courseCode)
-                .orElseThrow(() -> ResourceNotFoundException.of("Course", "courseCode", courseCode));
-        return convertToDTO(course);
+        return catalogCache.getByCode(courseCode, () -> courseRepository.findCourseSummaryByCourseCode(courseCode)
+                .orElseThrow(() -> ResourceNotFoundException.of("Course", "courseCode", courseCode)));
+    }
+
+    // Helper to turn a page number or an offset cursor into a result offset; pages past the window are rejected
+    private int searchOffset(PageQuery pageQuery, int limit, int window) {
+        long offset;
+        if (pageQuery.isOffset()) {
+            if (pageQuery.getPage() < 0) {
+                throw new BadRequestException("Page number must not be negative");
+            }
+            offset = (long) pageQuery.getPage() * limit;
+        } else if (pageQuery.getCursor() == null || pageQuery.getCursor().isBlank()) {
+            return 0;
+        } else {
+            offset = PageResults.decodeCursor(pageQuery.getCursor());
+            if (offset < 0) {
+                throw new BadRequestException("Invalid page cursor");
+            }
+        }
+        if (offset >= window) {
+            throw new BadRequestException("Search results are limited to the first " + window
+                    + " matches; refine the search to see more");
+        }
+        return (int) offset;
+    }
+
+    // Helper to attach paging metadata to one page of ranked results; only pages within the window are offered
+    private CursorPage<CourseDTO> toSearchPage(List<CourseDTO> items, int offset, int limit, long totalHits, int window) {
+        long reachable = Math.min(totalHits, window);
+        long nextOffset = (long) offset + limit;
+        boolean hasNext = nextOffset < reachable;
+        PageInfo pageInfo = new PageInfo(hasNext ? PageResults.encodeCursor(nextOffset) : null, hasNext,
+                items.size(), offset / limit, totalHits, (int) ((reachable + limit - 1) / limit));
+        return new CursorPage<>(items, pageInfo);
     }
 
     // Helper method to convert Course to CourseDTO
@@ -0,0 +1,213 @@
+package com.coursemate.service.impl;
+
+import com.coursemate.dto.EnrollmentDTO;
+import com.coursemate.dto.EnrollmentTicketDTO;
+import com.coursemate.exception.BadRequestException;
+import com.coursemate.exception.ResourceNotFoundException;
+import com.coursemate.exception.ServiceUnavailableException;
+import com.coursemate.service.EnrollmentQueueService;
+import com.coursemate.service.EnrollmentService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration-rush mode: enrollment requests are accepted into a bounded
+ * FIFO queue and drained by a single worker that enrolls each course's
+ * requests in one transaction. Ticket status is kept in memory on this node.
+ */
+@Service
+public class EnrollmentQueueServiceImpl implements EnrollmentQueueService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentQueueServiceImpl.class);
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Value("${app.enrollment.queue.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.enrollment.queue.capacity:10000}")
+    private int capacity;
+
+    @Value("${app.enrollment.queue.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.enrollment.queue.ticket-ttl-ms:600000}")
+    private long ticketTtlMs;
+
+    @Value("${app.enrollment.queue.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    private BlockingQueue<EnrollmentTicketDTO> queue;
+
+    private final Map<String, EnrollmentTicketDTO> tickets = new ConcurrentHashMap<>();
+
+    // Completed tickets in completion order, so expiry only ever inspects the head
+    private final Queue<CompletedTicket> completed = new ConcurrentLinkedQueue<>();
+
+    private Thread worker;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(capacity, true);
+        running = true;
+        worker = new Thread(this::drainLoop, "enrollment-queue-worker");
+        worker.setDaemon(true);
+        worker.start();
+        logger.info("Enrollment queue started (capacity {}, batch size {})", capacity, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public EnrollmentTicketDTO submit(Long studentId, Long courseId) {
+        if (!enabled) {
+            throw new BadRequestException("Queued enrollment is not enabled");
+        }
+
+        EnrollmentTicketDTO ticket = new EnrollmentTicketDTO(UUID.randomUUID().toString(), studentId, courseId,
+                EnrollmentTicketDTO.QUEUED, "Waiting to be processed", null, format(new Date()), null);
+        tickets.put(ticket.getTicketId(), ticket);
+        if (!queue.offer(copy(ticket))) {
+            tickets.remove(ticket.getTicketId());
+            throw new ServiceUnavailableException("Enrollment queue is full. Please retry shortly.", retryAfterSeconds);
+        }
+        return ticket;
+    }
+
+    @Override
+    public EnrollmentTicketDTO getTicket(String ticketId) {
+        EnrollmentTicketDTO ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw ResourceNotFoundException.of("Enrollment ticket", "id", ticketId);
+        }
+        return ticket;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                EnrollmentTicketDTO first = queue.poll(500, TimeUnit.MILLISECONDS);
+                purgeExpired();
+                if (first == null) {
+                    continue;
+                }
+                List<EnrollmentTicketDTO> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Enrollment queue worker error", e);
+            }
+        }
+    }
+
+    private void process(List<EnrollmentTicketDTO> batch) {
+        // Group by course while keeping arrival order within each course
+        Map<Long, List<EnrollmentTicketDTO>> byCourse = new LinkedHashMap<>();
+        for (EnrollmentTicketDTO ticket : batch) {
+            byCourse.computeIfAbsent(ticket.getCourseId(), id -> new ArrayList<>()).add(ticket);
+        }
+
+        byCourse.forEach((courseId, courseTickets) -> {
+            try {
+                enrollmentService.enrollBatch(courseId, courseTickets).forEach(this::complete);
+            } catch (RuntimeException e) {
+                // One bad row (e.g. a concurrent direct enrollment) or too few seats fails the batch; retry one by one
+                logger.warn("Batch enrollment failed for course {}, retrying individually: {}", courseId, e.getMessage());
+                courseTickets.forEach(this::enrollIndividually);
+            }
+        });
+    }
+
+    private void enrollIndividually(EnrollmentTicketDTO ticket) {
+        try {
+            EnrollmentDTO enrollment = enrollmentService.enrollStudent(ticket.getStudentId(), ticket.getCourseId());
+            ticket.setStatus(EnrollmentTicketDTO.ENROLLED);
+            ticket.setMessage("Enrolled successfully");
+            ticket.setEnrollment(enrollment);
+        } catch (BadRequestException | ResourceNotFoundException e) {
+            ticket.setStatus(EnrollmentTicketDTO.REJECTED);
+            ticket.setMessage(e.getMessage());
+        } catch (RuntimeException e) {
+            ticket.setStatus(EnrollmentTicketDTO.FAILED);
+            ticket.setMessage("Enrollment failed: " + e.getMessage());
+        }
+        complete(ticket);
+    }
+
+    private void complete(EnrollmentTicketDTO ticket) {
+        ticket.setCompletedAt(format(new Date()));
+        // Publish a fresh instance; readers never see a ticket mid-update
+        tickets.put(ticket.getTicketId(), copy(ticket));
+        completed.add(new CompletedTicket(ticket.getTicketId(), System.currentTimeMillis() + ticketTtlMs));
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        CompletedTicket head;
+        while ((head = completed.peek()) != null && head.expiresAt <= now) {
+            completed.poll();
+            tickets.remove(head.ticketId);
+        }
+    }
+
+    private EnrollmentTicketDTO copy(EnrollmentTicketDTO ticket) {
+        return new EnrollmentTicketDTO(ticket.getTicketId(), ticket.getStudentId(), ticket.getCourseId(),
+                ticket.getStatus(), ticket.getMessage(), ticket.getEnrollment(), ticket.getSubmittedAt(),
+                ticket.getCompletedAt());
+    }
+
+    private String format(Date date) {
+        return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(date);
+    }
+
+    private static final class CompletedTicket {
+        private final String ticketId;
+        private final long expiresAt;
+
+        private CompletedTicket(String ticketId, long expiresAt) {
+            this.ticketId = ticketId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
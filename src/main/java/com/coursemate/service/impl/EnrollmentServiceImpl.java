@@ -1,21 +1,46 @@
 package com.coursemate.service.impl;
 
+import com.coursemate.dto.BulkOperationReport;
+import com.coursemate.dto.BulkRowResult;
+import com.coursemate.dto.CursorPage;
 import com.coursemate.dto.EnrollmentDTO;
+import com.coursemate.dto.EnrollmentTicketDTO;
+import com.coursemate.dto.PageQuery;
 import com.coursemate.entity.Course;
 import com.coursemate.entity.Enrollment;
 import com.coursemate.entity.User;
+import com.coursemate.event.EnrollmentChangedEvent;
 import com.coursemate.exception.BadRequestException;
 import com.coursemate.exception.ResourceNotFoundException;
+import com.coursemate.id.SnowflakeIdGenerator;
 import com.coursemate.repository.CourseRepository;
 import com.coursemate.repository.EnrollmentRepository;
 import com.coursemate.repository.UserRepository;
 import com.coursemate.service.EnrollmentService;
+import com.coursemate.util.CsvReader;
+import com.coursemate.util.PageResults;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +50,8 @@ import java.util.stream.Collectors;
 @Transactional
 public class EnrollmentServiceImpl implements EnrollmentService {
 
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "enrolledAt", "status", "grade");
+
     @Autowired
     private EnrollmentRepository enrollmentRepository;
 
@@ -34,6 +61,24 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private SeatReservationGate seatGate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.bulk.batch-size:500}")
+    private int bulkBatchSize;
+
+    @Value("${app.bulk.max-rows:10000}")
+    private int bulkMaxRows;
+
     private static final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
 
     @Override
@@ -49,19 +94,110 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> ResourceNotFoundException.of("Course", "id", courseId));
 
-        // Check max students limit
-        Long enrolledCount = enrollmentRepository.countActiveEnrollmentsByCourseId(courseId);
-        if (enrolledCount >= course.getMaxStudents()) {
-            throw new BadRequestException("Course is full. Maximum students reached.");
-        }
+        // Take a seat atomically; the conditional UPDATE cannot oversubscribe the course
+        reserveSeat(courseId);
 
         Enrollment enrollment = new Enrollment(student, course);
         Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(courseId));
 
         return convertToDTO(savedEnrollment);
     }
 
     @Override
+    public List<EnrollmentTicketDTO> enrollBatch(Long courseId, List<EnrollmentTicketDTO> tickets) {
+        // Lock the course row once for the whole batch instead of once per request
+        Course course = courseRepository.findByIdForUpdate(courseId).orElse(null);
+        if (course == null) {
+            tickets.forEach(ticket -> reject(ticket, "Course not found with id: '" + courseId + "'"));
+            return tickets;
+        }
+
+        // Names only: the enrollments reference students by id, so no user or role rows are loaded
+        Set<Long> studentIds = tickets.stream().map(EnrollmentTicketDTO::getStudentId).collect(Collectors.toSet());
+        Map<Long, String> studentNames = new HashMap<>();
+        for (Object[] row : userRepository.findFullNamesByIdIn(studentIds)) {
+            studentNames.put((Long) row[0], (String) row[1]);
+        }
+        Set<Long> enrolled = new HashSet<>(enrollmentRepository.findEnrolledStudentIds(courseId, studentIds));
+        int freeSeats = Math.max(0, course.getMaxStudents() - course.getSeatsTaken());
+
+        List<Enrollment> accepted = new ArrayList<>();
+        List<EnrollmentTicketDTO> acceptedTickets = new ArrayList<>();
+        for (EnrollmentTicketDTO ticket : tickets) {
+            if (!studentNames.containsKey(ticket.getStudentId())) {
+                reject(ticket, "User not found with id: '" + ticket.getStudentId() + "'");
+            } else if (!enrolled.add(ticket.getStudentId())) {
+                reject(ticket, "Student is already enrolled in this course");
+            } else if (accepted.size() >= freeSeats) {
+                reject(ticket, "Course is full. Maximum students reached.");
+            } else {
+                accepted.add(new Enrollment(userRepository.getReferenceById(ticket.getStudentId()), course));
+                acceptedTickets.add(ticket);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            // Fails if the seat counter has fewer free seats than the locked row showed;
+            // the batch rolls back and the queue retries each ticket on its own
+            reserveSeats(courseId, accepted.size());
+            List<Enrollment> saved = enrollmentRepository.saveAll(accepted);
+            eventPublisher.publishEvent(new EnrollmentChangedEvent(courseId));
+            for (int i = 0; i < saved.size(); i++) {
+                EnrollmentTicketDTO ticket = acceptedTickets.get(i);
+                ticket.setStatus(EnrollmentTicketDTO.ENROLLED);
+                ticket.setMessage("Enrolled successfully");
+                ticket.setEnrollment(convertToDTO(saved.get(i), studentNames.get(ticket.getStudentId())));
+            }
+        }
+        if (accepted.size() >= freeSeats) {
+            seatGate.markFull(courseId);
+        }
+        return tickets;
+    }
+
+    @Override
+    public BulkOperationReport bulkEnroll(Long courseId, List<Long> studentIds) {
+        List<BulkStudentRow> rows = new ArrayList<>(studentIds.size());
+        List<BulkRowResult> results = new ArrayList<>();
+        for (int i = 0; i < studentIds.size(); i++) {
+            Long studentId = studentIds.get(i);
+            if (studentId == null) {
+                results.add(new BulkRowResult(i + 1, null, BulkRowResult.REJECTED, "Student id is required", null));
+            } else {
+                rows.add(new BulkStudentRow(i + 1, String.valueOf(studentId), studentId));
+            }
+        }
+        return bulkEnrollRows(courseId, rows, results);
+    }
+
+    @Override
+    public BulkOperationReport bulkEnrollFromCsv(Long courseId, InputStream csv) throws IOException {
+        List<BulkStudentRow> rows = new ArrayList<>();
+        List<BulkRowResult> results = new ArrayList<>();
+
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            int line = reader.getRecordLine();
+            String value = record.get(0).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            try {
+                rows.add(new BulkStudentRow(line, value, Long.parseLong(value)));
+            } catch (NumberFormatException e) {
+                // A non-numeric first line is the header
+                if (line > 1) {
+                    results.add(new BulkRowResult(line, value, BulkRowResult.REJECTED, "Invalid student id", null));
+                }
+            }
+        }
+        return bulkEnrollRows(courseId, rows, results);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public EnrollmentDTO getEnrollmentById(Long id) {
         Enrollment enrollment = enrollmentRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.of("Enrollment", "id", id));
@@ -73,7 +209,16 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         Enrollment enrollment = enrollmentRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.of("Enrollment", "id", id));
 
-        enrollment.setStatus(Enrollment.EnrollmentStatus.valueOf(enrollmentDTO.getStatus()));
+        Enrollment.EnrollmentStatus newStatus = Enrollment.EnrollmentStatus.valueOf(enrollmentDTO.getStatus());
+        boolean wasActive = enrollment.getStatus() == Enrollment.EnrollmentStatus.ACTIVE;
+        boolean isActive = newStatus == Enrollment.EnrollmentStatus.ACTIVE;
+        if (!wasActive && isActive) {
+            reserveSeat(enrollment.getCourse().getId());
+        } else if (wasActive && !isActive) {
+            releaseSeat(enrollment.getCourse().getId());
+        }
+
+        enrollment.setStatus(newStatus);
         enrollment.setGrade(enrollmentDTO.getGrade());
 
         Enrollment updatedEnrollment = enrollmentRepository.save(enrollment);
@@ -84,10 +229,15 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     public void removeEnrollment(Long id) {
         Enrollment enrollment = enrollmentRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.of("Enrollment", "id", id));
+        if (enrollment.getStatus() == Enrollment.EnrollmentStatus.ACTIVE) {
+            releaseSeat(enrollment.getCourse().getId());
+        }
         enrollmentRepository.delete(enrollment);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(enrollment.getCourse().getId()));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EnrollmentDTO> getEnrollmentsByStudent(Long studentId) {
         return enrollmentRepository.findByStudentId(studentId).stream()
                 .map(this::convertToDTO)
@@ -95,6 +245,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EnrollmentDTO> getEnrollmentsByCourse(Long courseId) {
         return enrollmentRepository.findByCourseId(courseId).stream()
                 .map(this::convertToDTO)
@@ -102,6 +253,22 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EnrollmentDTO> getEnrollmentsByCourse(Long courseId, PageQuery pageQuery) {
+        if (pageQuery.isOffset()) {
+            return PageResults.fromPage(
+                    enrollmentRepository.findByCourseId(courseId, PageResults.offsetPageable(pageQuery, SORTABLE_FIELDS)),
+                    this::convertToDTO);
+        }
+        Long seekId = PageResults.seekId(pageQuery);
+        List<Enrollment> rows = pageQuery.isDescending()
+                ? enrollmentRepository.findByCourseIdAndIdLessThan(courseId, seekId, PageResults.keysetPageable(pageQuery))
+                : enrollmentRepository.findByCourseIdAndIdGreaterThan(courseId, seekId, PageResults.keysetPageable(pageQuery));
+        return PageResults.fromKeyset(rows, pageQuery, Enrollment::getId, this::convertToDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public EnrollmentDTO getStudentEnrollmentInCourse(Long studentId, Long courseId) {
         Enrollment enrollment = enrollmentRepository.findByStudentIdAndCourseId(studentId, courseId)
                 .orElseThrow(() -> new BadRequestException("Student is not enrolled in this course"));
@@ -109,21 +276,142 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Long countCourseEnrollments(Long courseId) {
         return enrollmentRepository.countByCourseId(courseId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Boolean isStudentEnrolled(Long studentId, Long courseId) {
         return enrollmentRepository.findByStudentIdAndCourseId(studentId, courseId).isPresent();
     }
 
+    // Helper for bulk enrollment: two lookups, one JDBC batch insert and one seat update for the whole list
+    private BulkOperationReport bulkEnrollRows(Long courseId, List<BulkStudentRow> rows, List<BulkRowResult> results) {
+        long startedAt = System.currentTimeMillis();
+        if (rows.size() > bulkMaxRows) {
+            throw new BadRequestException("Bulk enrollment is limited to " + bulkMaxRows + " rows per request");
+        }
+
+        Course course = courseRepository.findByIdForUpdate(courseId)
+                .orElseThrow(() -> ResourceNotFoundException.of("Course", "id", courseId));
+
+        Set<Long> requestedIds = rows.stream().map(row -> row.studentId).collect(Collectors.toSet());
+        Set<Long> existingStudents = new HashSet<>();
+        Set<Long> alreadyEnrolled = new HashSet<>();
+        for (List<Long> chunk : partition(new ArrayList<>(requestedIds), bulkBatchSize)) {
+            existingStudents.addAll(userRepository.findExistingIds(chunk));
+            alreadyEnrolled.addAll(enrollmentRepository.findEnrolledStudentIds(courseId, chunk));
+        }
+
+        int freeSeats = Math.max(0, course.getMaxStudents() - course.getSeatsTaken());
+        Set<Long> seen = new HashSet<>();
+        List<BulkStudentRow> accepted = new ArrayList<>();
+        for (BulkStudentRow row : rows) {
+            if (!seen.add(row.studentId)) {
+                results.add(new BulkRowResult(row.row, row.key, BulkRowResult.SKIPPED, "Duplicate in request", null));
+            } else if (!existingStudents.contains(row.studentId)) {
+                results.add(new BulkRowResult(row.row, row.key, BulkRowResult.REJECTED, "User not found", null));
+            } else if (alreadyEnrolled.contains(row.studentId)) {
+                results.add(new BulkRowResult(row.row, row.key, BulkRowResult.SKIPPED,
+                        "Student is already enrolled in this course", null));
+            } else if (accepted.size() >= freeSeats) {
+                results.add(new BulkRowResult(row.row, row.key, BulkRowResult.REJECTED,
+                        "Course is full. Maximum students reached.", null));
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            // Take the seats first; if the counter disagrees with the locked row the whole request rolls back
+            reserveSeats(courseId, accepted.size());
+
+            // Ids are assigned up front, so the report needs no read-back query
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (BulkStudentRow row : accepted) {
+                row.enrollmentId = idGenerator.nextId();
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO enrollments (id, student_id, course_id, status, grade, enrolled_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    accepted, bulkBatchSize, (ps, row) -> {
+                        ps.setLong(1, row.enrollmentId);
+                        ps.setLong(2, row.studentId);
+                        ps.setLong(3, courseId);
+                        ps.setString(4, Enrollment.EnrollmentStatus.ACTIVE.name());
+                        ps.setDouble(5, 0.0);
+                        ps.setTimestamp(6, now);
+                    });
+            eventPublisher.publishEvent(new EnrollmentChangedEvent(courseId));
+
+            for (BulkStudentRow row : accepted) {
+                results.add(new BulkRowResult(row.row, row.key, BulkRowResult.CREATED, "Enrolled",
+                        row.enrollmentId));
+            }
+        }
+        if (accepted.size() >= freeSeats) {
+            seatGate.markFull(courseId);
+        }
+        return BulkOperationReport.of(results, startedAt);
+    }
+
+    // Helper to keep IN lists and JDBC batches bounded
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += size) {
+            chunks.add(items.subList(i, Math.min(items.size(), i + size)));
+        }
+        return chunks;
+    }
+
+    // Helper to mark a queued request as rejected
+    private void reject(EnrollmentTicketDTO ticket, String message) {
+        ticket.setStatus(EnrollmentTicketDTO.REJECTED);
+        ticket.setMessage(message);
+    }
+
+    // Helper to take a seat, rejecting full courses without touching the row when the gate knows
+    private void reserveSeat(Long courseId) {
+        if (seatGate.isKnownFull(courseId)) {
+            throw new BadRequestException("Course is full. Maximum students reached.");
+        }
+        seatGate.enter(courseId);
+        if (courseRepository.reserveSeat(courseId) == 0) {
+            seatGate.markFull(courseId);
+            throw new BadRequestException("Course is full. Maximum students reached.");
+        }
+    }
+
+    // Helper to take several seats in one conditional UPDATE; throws (rolling the caller back) if they are not all free
+    private void reserveSeats(Long courseId, int seats) {
+        if (courseRepository.reserveSeats(courseId, seats) == 0) {
+            throw new BadRequestException("Course is full. Maximum students reached.");
+        }
+    }
+
+    // Helper to give a seat back and reopen the course in the gate once committed
+    private void releaseSeat(Long courseId) {
+        courseRepository.releaseSeat(courseId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatGate.markAvailable(courseId);
+            }
+        });
+    }
+
     // Helper method to convert Enrollment to EnrollmentDTO
     private EnrollmentDTO convertToDTO(Enrollment enrollment) {
+        return convertToDTO(enrollment, enrollment.getStudent().getFullName());
+    }
+
+    // Helper for enrollments whose student is an unloaded reference; the name comes from the caller
+    private EnrollmentDTO convertToDTO(Enrollment enrollment, String studentName) {
         EnrollmentDTO dto = new EnrollmentDTO();
         dto.setId(enrollment.getId());
         dto.setStudentId(enrollment.getStudent().getId());
-        dto.setStudentName(enrollment.getStudent().getFullName());
+        dto.setStudentName(studentName);
         dto.setCourseId(enrollment.getCourse().getId());
         dto.setCourseName(enrollment.getCourse().getTitle());
         dto.setStatus(enrollment.getStatus().toString());
@@ -131,4 +419,17 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         dto.setEnrolledAt(dateFormat.format(enrollment.getEnrolledAt()));
         return dto;
     }
+
+    private static final class BulkStudentRow {
+        private final int row;
+        private final String key;
+        private final Long studentId;
+        private Long enrollmentId;
+
+        private BulkStudentRow(int row, String key, Long studentId) {
+            this.row = row;
+            this.key = key;
+            this.studentId = studentId;
+        }
+    }
 }
@@ -1,18 +1,22 @@
 package com.coursemate.service.impl;
 
+import com.coursemate.cache.ProgressReadCache;
 import com.coursemate.dto.ProgressDTO;
 import com.coursemate.entity.Course;
 import com.coursemate.entity.Progress;
-import com.coursemate.entity.Submission;
 import com.coursemate.entity.User;
+import com.coursemate.event.ProgressChangedEvent;
 import com.coursemate.exception.ResourceNotFoundException;
+import com.coursemate.repository.AssessmentRepository;
 import com.coursemate.repository.CourseRepository;
 import com.coursemate.repository.ProgressRepository;
 import com.coursemate.repository.SubmissionRepository;
 import com.coursemate.repository.UserRepository;
 import com.coursemate.service.ProgressService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.text.SimpleDateFormat;
@@ -38,16 +42,40 @@ public class ProgressServiceImpl implements ProgressService {
     @Autowired
     private SubmissionRepository submissionRepository;
 
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+
+    @Autowired
+    private ProgressReadCache progressReadCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private static final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
 
     @Override
+    @Transactional(readOnly = true)
     public ProgressDTO getProgressByStudentAndCourse(Long studentId, Long courseId) {
-        Progress progress = progressRepository.findByStudentIdAndCourseId(studentId, courseId)
+        Progress progress = progressRepository.findDetailedByStudentIdAndCourseId(studentId, courseId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Progress not found for student: " + studentId + " and course: " + courseId));
         return convertToDTO(progress);
     }
 
+    /**
+     * Pure read: cache hits never open a transaction, and a missing row is
+     * reported as a transient snapshot rather than inserted. Misses read the
+     * primary (not read-only) since the result is cached.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProgressDTO getMyProgress(Long studentId, Long courseId) {
+        return progressReadCache.get(studentId, courseId, () ->
+                progressRepository.findDetailedByStudentIdAndCourseId(studentId, courseId)
+                        .map(this::convertToDTO)
+                        .orElseGet(() -> snapshotProgress(studentId, courseId)));
+    }
+
     @Override
     public ProgressDTO updateProgress(Long id, ProgressDTO progressDTO) {
         Progress progress = progressRepository.findById(id)
@@ -58,10 +86,13 @@ public class ProgressServiceImpl implements ProgressService {
         progress.setStatus(Progress.ProgressStatus.valueOf(progressDTO.getStatus()));
 
         Progress updatedProgress = progressRepository.save(progress);
+        eventPublisher.publishEvent(new ProgressChangedEvent(
+                progress.getStudent().getId(), progress.getCourse().getId()));
         return convertToDTO(updatedProgress);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProgressDTO> getProgressByStudent(Long studentId) {
         return progressRepository.findByStudentId(studentId).stream()
                 .map(this::convertToDTO)
@@ -69,6 +100,7 @@ public class ProgressServiceImpl implements ProgressService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProgressDTO> getProgressByCourse(Long courseId) {
         return progressRepository.findByCourseId(courseId).stream()
                 .map(this::convertToDTO)
@@ -80,6 +112,8 @@ public class ProgressServiceImpl implements ProgressService {
         Progress progress = progressRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.of("Progress", "id", id));
         progressRepository.delete(progress);
+        eventPublisher.publishEvent(new ProgressChangedEvent(
+                progress.getStudent().getId(), progress.getCourse().getId()));
     }
 
     @Override
@@ -92,66 +126,57 @@ public class ProgressServiceImpl implements ProgressService {
 
         // Get or create progress record
         Progress progress = progressRepository.findByStudentIdAndCourseId(studentId, courseId)
-                .orElseGet(() -> {
-                    Progress newProgress = new Progress(student, course);
-                    return progressRepository.save(newProgress);
-                });
-
-        // Calculate submission metrics
-        List<Submission> submissions = submissionRepository
-                .findStudentSubmissionsByCourseId(courseId, studentId);
-
-        int totalSubmissions = submissions.size();
-        int totalGraded = (int) submissions.stream()
-                .filter(s -> s.getMarksObtained() != null)
-                .count();
-
-        double averageScore = 0;
-        if (totalGraded > 0) {
-            averageScore = submissions.stream()
-                    .filter(s -> s.getMarksObtained() != null)
-                    .mapToDouble(Submission::getMarksObtained)
-                    .average()
-                    .orElse(0.0);
-        }
-
-        // Update progress
-        progress.setTotalAssignmentsSubmitted(totalSubmissions);
-        progress.setTotalAssignmentsAssigned(course.getAssessments().size());
-        progress.setAverageScore(averageScore);
-
-        double completionPercentage = 0;
-        if (progress.getTotalAssignmentsAssigned() > 0) {
-            completionPercentage = (double) progress.getTotalAssignmentsSubmitted() / 
-                    progress.getTotalAssignmentsAssigned() * 100;
-        }
-        progress.setCompletionPercentage(Math.min(completionPercentage, 100.0));
-
-        // Determine status
-        if (completionPercentage >= 100) {
-            progress.setStatus(Progress.ProgressStatus.COMPLETED);
-        } else if (completionPercentage > 0) {
-            progress.setStatus(Progress.ProgressStatus.IN_PROGRESS);
-        } else {
-            progress.setStatus(Progress.ProgressStatus.NOT_STARTED);
-        }
+                .orElseGet(() -> new Progress(student, course));
+
+        applyTotals(progress, studentId, courseId);
 
         Progress updatedProgress = progressRepository.save(progress);
+        eventPublisher.publishEvent(new ProgressChangedEvent(studentId, courseId));
         return convertToDTO(updatedProgress);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Double getAverageCourseCompletion(Long courseId) {
         Double average = progressRepository.getAverageCourseCompletionPercentage(courseId);
         return average != null ? average : 0.0;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Double getAverageCourseScore(Long courseId) {
         Double average = progressRepository.getAverageCourseScore(courseId);
         return average != null ? average : 0.0;
     }
 
+    // Helper to report progress for a student with no stored row yet, without inserting one
+    private ProgressDTO snapshotProgress(Long studentId, Long courseId) {
+        User student = userRepository.findById(studentId)
+                .orElseThrow(() -> ResourceNotFoundException.of("User", "id", studentId));
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> ResourceNotFoundException.of("Course", "id", courseId));
+
+        Progress progress = new Progress(student, course);
+        applyTotals(progress, studentId, courseId);
+
+        ProgressDTO dto = convertToDTO(progress);
+        dto.setStartDate(null);
+        dto.setLastUpdated(null);
+        return dto;
+    }
+
+    // Helper to rebuild the counters from aggregates instead of loading every submission
+    private void applyTotals(Progress progress, Long studentId, Long courseId) {
+        List<Object[]> totals = submissionRepository.summarizeStudentSubmissionsInCourse(courseId, studentId);
+        Object[] row = totals.isEmpty() ? null : totals.get(0);
+
+        progress.setTotalAssignmentsAssigned((int) assessmentRepository.countByCourseId(courseId));
+        progress.setTotalAssignmentsSubmitted(row == null ? 0 : ((Number) row[1]).intValue());
+        progress.setGradedCount(row == null ? 0 : ((Number) row[2]).intValue());
+        progress.setTotalScore(row == null ? 0.0 : ((Number) row[3]).doubleValue());
+        progress.refreshDerivedFields();
+    }
+
     // Helper method to convert Progress to ProgressDTO
     private ProgressDTO convertToDTO(Progress progress) {
         ProgressDTO dto = new ProgressDTO();
@@ -0,0 +1,44 @@
+package com.coursemate.service.impl;
+
+import com.coursemate.entity.Role;
+import com.coursemate.repository.RoleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * In-memory role name to id table.
+ * Roles are seeded once and never change at runtime, so the table is loaded
+ * on first use and only reloaded when a name is missing (e.g. first lookup
+ * raced the seeder).
+ */
+@Component
+public class RoleRegistry {
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private volatile Map<Role.RoleType, Long> roleIds = new EnumMap<>(Role.RoleType.class);
+
+    /**
+     * Get the id of a role, or null if the role does not exist
+     */
+    public Long getRoleId(Role.RoleType type) {
+        Long id = roleIds.get(type);
+        if (id == null) {
+            reload();
+            id = roleIds.get(type);
+        }
+        return id;
+    }
+
+    private synchronized void reload() {
+        Map<Role.RoleType, Long> loaded = new EnumMap<>(Role.RoleType.class);
+        for (Role role : roleRepository.findAll()) {
+            loaded.put(role.getName(), role.getId());
+        }
+        roleIds = loaded;
+    }
+}
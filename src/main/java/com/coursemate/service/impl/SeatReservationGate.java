@@ -0,0 +1,104 @@
+package com.coursemate.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional in-memory layer in front of the atomic seat counter.
+ * Requests for the same course stripe are admitted one at a time until their
+ * transaction completes, so a registration rush queues in the JVM instead of
+ * on the course row lock. Courses found full are remembered briefly and
+ * rejected without a database round-trip. The database counter stays the
+ * source of truth; the gate only sheds load.
+ */
+@Component
+public class SeatReservationGate {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatReservationGate.class);
+
+    @Value("${app.enrollment.seat-gate.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.enrollment.seat-gate.full-ttl-ms:5000}")
+    private long fullTtlMs;
+
+    @Value("${app.enrollment.seat-gate.acquire-timeout-ms:2000}")
+    private long acquireTimeoutMs;
+
+    private final Semaphore[] stripes;
+
+    private final Map<Long, Long> fullUntil = new ConcurrentHashMap<>();
+
+    public SeatReservationGate(@Value("${app.enrollment.seat-gate.stripes:64}") int stripeCount) {
+        stripes = new Semaphore[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Semaphore(1);
+        }
+    }
+
+    /**
+     * Whether the course was recently seen full on this node
+     */
+    public boolean isKnownFull(Long courseId) {
+        if (!enabled) {
+            return false;
+        }
+        Long until = fullUntil.get(courseId);
+        if (until == null) {
+            return false;
+        }
+        if (until <= System.currentTimeMillis()) {
+            fullUntil.remove(courseId, until);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Admit the caller to the course stripe for the rest of its transaction.
+     * Falls through unguarded on timeout; the conditional UPDATE still enforces capacity.
+     */
+    public void enter(Long courseId) {
+        if (!enabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Semaphore stripe = stripes[Math.floorMod(courseId.hashCode(), stripes.length)];
+        try {
+            if (!stripe.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                logger.debug("Seat gate timed out for course: {}", courseId);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                stripe.release();
+            }
+        });
+    }
+
+    public void markFull(Long courseId) {
+        if (enabled) {
+            fullUntil.put(courseId, System.currentTimeMillis() + fullTtlMs);
+        }
+    }
+
+    /**
+     * Forget the full marker once a seat is freed or capacity is raised
+     */
+    public void markAvailable(Long courseId) {
+        fullUntil.remove(courseId);
+    }
+}
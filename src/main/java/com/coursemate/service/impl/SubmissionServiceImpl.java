@@ -1,21 +1,59 @@
 package com.coursemate.service.impl;
 
+import com.coursemate.dto.BulkOperationReport;
+import com.coursemate.dto.BulkRowResult;
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.ExportFormat;
+import com.coursemate.dto.GradeRequest;
+import com.coursemate.dto.PageQuery;
 import com.coursemate.dto.SubmissionDTO;
+import com.coursemate.dto.SubmissionExportRow;
 import com.coursemate.entity.Assessment;
+import com.coursemate.entity.AssessmentStats;
 import com.coursemate.entity.Submission;
 import com.coursemate.entity.User;
+import com.coursemate.event.SubmissionDeletedEvent;
+import com.coursemate.event.SubmissionGradedEvent;
+import com.coursemate.event.SubmissionsBulkGradedEvent;
+import com.coursemate.event.SubmissionSubmittedEvent;
 import com.coursemate.exception.BadRequestException;
 import com.coursemate.exception.ResourceNotFoundException;
 import com.coursemate.repository.AssessmentRepository;
+import com.coursemate.repository.AssessmentStatsRepository;
 import com.coursemate.repository.SubmissionRepository;
 import com.coursemate.repository.UserRepository;
 import com.coursemate.service.SubmissionService;
+import com.coursemate.util.CsvReader;
+import com.coursemate.util.PageResults;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +63,8 @@ import java.util.stream.Collectors;
 @Transactional
 public class SubmissionServiceImpl implements SubmissionService {
 
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "submittedAt", "gradedAt", "marksObtained", "status");
+
     @Autowired
     private SubmissionRepository submissionRepository;
 
@@ -34,6 +74,24 @@ public class SubmissionServiceImpl implements SubmissionService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssessmentStatsRepository assessmentStatsRepository;
+
+    @Value("${app.bulk.batch-size:500}")
+    private int bulkBatchSize;
+
+    @Value("${app.bulk.max-rows:10000}")
+    private int bulkMaxRows;
+
     private static final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
 
     @Override
@@ -63,10 +121,14 @@ public class SubmissionServiceImpl implements SubmissionService {
         }
 
         Submission savedSubmission = submissionRepository.save(submission);
+        eventPublisher.publishEvent(new SubmissionSubmittedEvent(savedSubmission.getId(), assessment.getId(),
+                assessment.getCourse().getId(), student.getId(),
+                savedSubmission.getStatus() == Submission.SubmissionStatus.LATE));
         return convertToDTO(savedSubmission);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public SubmissionDTO getSubmissionById(Long id) {
         Submission submission = submissionRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.of("Submission", "id", id));
@@ -75,30 +137,81 @@ public class SubmissionServiceImpl implements SubmissionService {
 
     @Override
     public SubmissionDTO gradeSubmission(Long id, Double marksObtained, String feedback) {
-        Submission submission = submissionRepository.findById(id)
+        // Locked so a concurrent grade of the same submission sees these marks as its previous marks
+        Submission submission = submissionRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> ResourceNotFoundException.of("Submission", "id", id));
 
         if (marksObtained < 0 || marksObtained > submission.getAssessment().getTotalMarks()) {
             throw new BadRequestException("Marks must be between 0 and " + submission.getAssessment().getTotalMarks());
         }
 
+        Double previousMarks = submission.getMarksObtained();
+        boolean late = submission.isLateSubmission();
+
         submission.setMarksObtained(marksObtained);
         submission.setFeedback(feedback);
         submission.setStatus(Submission.SubmissionStatus.GRADED);
         submission.setGradedAt(new java.util.Date());
 
         Submission gradedSubmission = submissionRepository.save(submission);
+        eventPublisher.publishEvent(new SubmissionGradedEvent(gradedSubmission.getId(),
+                gradedSubmission.getAssessment().getId(), gradedSubmission.getAssessment().getCourse().getId(),
+                gradedSubmission.getStudent().getId(), previousMarks, marksObtained, late));
         return convertToDTO(gradedSubmission);
     }
 
+    @Override
+    public BulkOperationReport bulkGrade(List<GradeRequest> grades) {
+        List<GradeRow> rows = new ArrayList<>(grades.size());
+        for (int i = 0; i < grades.size(); i++) {
+            rows.add(new GradeRow(i + 1, grades.get(i)));
+        }
+        return bulkGradeRows(rows, new ArrayList<>());
+    }
+
+    @Override
+    public BulkOperationReport bulkGradeFromCsv(InputStream csv) throws IOException {
+        List<GradeRow> rows = new ArrayList<>();
+        List<BulkRowResult> results = new ArrayList<>();
+
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            int line = reader.getRecordLine();
+            String idValue = record.get(0).trim();
+            if (idValue.isEmpty()) {
+                continue;
+            }
+            try {
+                Long submissionId = Long.parseLong(idValue);
+                String marksValue = record.size() > 1 ? record.get(1).trim() : "";
+                Double marks = marksValue.isEmpty() ? null : Double.parseDouble(marksValue);
+                String feedback = record.size() > 2 && !record.get(2).isBlank() ? record.get(2) : null;
+                rows.add(new GradeRow(line, new GradeRequest(submissionId, marks, feedback)));
+            } catch (NumberFormatException e) {
+                // A non-numeric first line is the header
+                if (line > 1) {
+                    results.add(new BulkRowResult(line, idValue, BulkRowResult.REJECTED,
+                            "Invalid submission id or marks", null));
+                }
+            }
+        }
+        return bulkGradeRows(rows, results);
+    }
+
     @Override
     public void deleteSubmission(Long id) {
         Submission submission = submissionRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.of("Submission", "id", id));
+        SubmissionDeletedEvent event = new SubmissionDeletedEvent(submission.getId(),
+                submission.getAssessment().getId(), submission.getAssessment().getCourse().getId(),
+                submission.getStudent().getId(), submission.getMarksObtained(), submission.isLateSubmission());
         submissionRepository.delete(submission);
+        eventPublisher.publishEvent(event);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<SubmissionDTO> getSubmissionsByAssessment(Long assessmentId) {
         return submissionRepository.findByAssessmentId(assessmentId).stream()
                 .map(this::convertToDTO)
@@ -106,6 +219,59 @@ public class SubmissionServiceImpl implements SubmissionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<SubmissionDTO> getSubmissionsByAssessment(Long assessmentId, PageQuery pageQuery) {
+        if (pageQuery.isOffset()) {
+            return PageResults.fromPage(
+                    submissionRepository.findByAssessmentId(assessmentId,
+                            PageResults.offsetPageable(pageQuery, SORTABLE_FIELDS)),
+                    this::convertToDTO);
+        }
+        Long seekId = PageResults.seekId(pageQuery);
+        List<Submission> rows = pageQuery.isDescending()
+                ? submissionRepository.findByAssessmentIdAndIdLessThan(assessmentId, seekId,
+                        PageResults.keysetPageable(pageQuery))
+                : submissionRepository.findByAssessmentIdAndIdGreaterThan(assessmentId, seekId,
+                        PageResults.keysetPageable(pageQuery));
+        return PageResults.fromKeyset(rows, pageQuery, Submission::getId, this::convertToDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getExportFileName(Long assessmentId, ExportFormat format) {
+        if (!assessmentRepository.existsById(assessmentId)) {
+            throw ResourceNotFoundException.of("Assessment", "id", assessmentId);
+        }
+        return "assessment-" + assessmentId + "-submissions." + format.getExtension();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportSubmissionsByAssessment(Long assessmentId, ExportFormat format, OutputStream out)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ObjectWriter jsonWriter = objectMapper.writerFor(SubmissionExportRow.class);
+
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, SubmissionExportRow.CSV_HEADER);
+        }
+        try (Stream<SubmissionExportRow> rows = submissionRepository.streamExportRowsByAssessmentId(assessmentId)) {
+            Iterator<SubmissionExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                SubmissionExportRow row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvLine(writer, row.toCsvValues());
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(row));
+                    writer.write('\n');
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<SubmissionDTO> getSubmissionsByStudent(Long studentId) {
         return submissionRepository.findByStudentId(studentId).stream()
                 .map(this::convertToDTO)
@@ -113,6 +279,7 @@ public class SubmissionServiceImpl implements SubmissionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public SubmissionDTO getStudentSubmissionForAssessment(Long studentId, Long assessmentId) {
         Submission submission = submissionRepository.findByAssessmentIdAndStudentId(assessmentId, studentId)
                 .orElseThrow(() -> new BadRequestException("No submission found for this student and assessment"));
@@ -120,6 +287,7 @@ public class SubmissionServiceImpl implements SubmissionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<SubmissionDTO> getStudentSubmissionsByCourse(Long courseId, Long studentId) {
         return submissionRepository.findStudentSubmissionsByCourseId(courseId, studentId).stream()
                 .map(this::convertToDTO)
@@ -127,14 +295,143 @@ public class SubmissionServiceImpl implements SubmissionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Long countAssessmentSubmissions(Long assessmentId) {
-        return submissionRepository.countSubmissionsByAssessmentId(assessmentId);
+        return assessmentStatsRepository.findById(assessmentId)
+                .map(AssessmentStats::getSubmissionCount)
+                .orElseGet(() -> {
+                    requireAssessment(assessmentId);
+                    return submissionRepository.countSubmissionsByAssessmentId(assessmentId);
+                });
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Double getAverageMarksForAssessment(Long assessmentId) {
-        Double average = submissionRepository.getAverageMarksByAssessmentId(assessmentId);
-        return average != null ? average : 0.0;
+        return assessmentStatsRepository.findById(assessmentId)
+                .map(AssessmentStats::getAverageMarks)
+                .orElseGet(() -> {
+                    requireAssessment(assessmentId);
+                    Double average = submissionRepository.getAverageMarksByAssessmentId(assessmentId);
+                    return average != null ? average : 0.0;
+                });
+    }
+
+    // Helper for the stats fallbacks: a missing stats row is only an answer when the assessment exists
+    private void requireAssessment(Long assessmentId) {
+        if (!assessmentRepository.existsById(assessmentId)) {
+            throw ResourceNotFoundException.of("Assessment", "id", assessmentId);
+        }
+    }
+
+    // Helper for bulk grading: one locking fetch-join load, in-memory validation, JDBC batch updates
+    private BulkOperationReport bulkGradeRows(List<GradeRow> rows, List<BulkRowResult> results) {
+        long startedAt = System.currentTimeMillis();
+        if (rows.size() > bulkMaxRows) {
+            throw new BadRequestException("Bulk grading is limited to " + bulkMaxRows + " rows per request");
+        }
+
+        List<Long> ids = rows.stream()
+                .map(row -> row.grade.getSubmissionId())
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        // Rows are locked in ascending id order across chunks, so their previous marks stay current until commit
+        Map<Long, Submission> submissions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i += bulkBatchSize) {
+            List<Long> chunk = ids.subList(i, Math.min(ids.size(), i + bulkBatchSize));
+            submissionRepository.findAllWithAssessmentByIdInForUpdate(chunk)
+                    .forEach(submission -> submissions.put(submission.getId(), submission));
+        }
+
+        Set<Long> seen = new HashSet<>();
+        List<GradeRow> accepted = new ArrayList<>();
+        for (GradeRow row : rows) {
+            GradeRequest grade = row.grade;
+            String key = grade.getSubmissionId() == null ? null : String.valueOf(grade.getSubmissionId());
+            Submission submission = grade.getSubmissionId() == null ? null : submissions.get(grade.getSubmissionId());
+            if (grade.getSubmissionId() == null) {
+                results.add(new BulkRowResult(row.row, key, BulkRowResult.REJECTED, "Submission id is required", null));
+            } else if (!seen.add(grade.getSubmissionId())) {
+                results.add(new BulkRowResult(row.row, key, BulkRowResult.SKIPPED, "Duplicate in request", null));
+            } else if (submission == null) {
+                results.add(new BulkRowResult(row.row, key, BulkRowResult.REJECTED, "Submission not found", null));
+            } else if (grade.getMarksObtained() == null) {
+                results.add(new BulkRowResult(row.row, key, BulkRowResult.REJECTED, "Marks are required", null));
+            } else if (grade.getMarksObtained() < 0
+                    || grade.getMarksObtained() > submission.getAssessment().getTotalMarks()) {
+                results.add(new BulkRowResult(row.row, key, BulkRowResult.REJECTED,
+                        "Marks must be between 0 and " + submission.getAssessment().getTotalMarks(), null));
+            } else if (grade.getFeedback() != null && grade.getFeedback().length() > 2000) {
+                results.add(new BulkRowResult(row.row, key, BulkRowResult.REJECTED,
+                        "Feedback must be at most 2000 characters", null));
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            // Written with JDBC so only the graded columns go over the wire; the loaded
+            // entities are never modified, so Hibernate has nothing to flush for them
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            jdbcTemplate.batchUpdate(
+                    "UPDATE submissions SET marks_obtained = ?, feedback = ?, status = ?, graded_at = ? WHERE id = ?",
+                    accepted, bulkBatchSize, (ps, row) -> {
+                        ps.setDouble(1, row.grade.getMarksObtained());
+                        ps.setString(2, row.grade.getFeedback());
+                        ps.setString(3, Submission.SubmissionStatus.GRADED.name());
+                        ps.setTimestamp(4, now);
+                        ps.setLong(5, row.grade.getSubmissionId());
+                    });
+
+            List<SubmissionGradedEvent> grades = new ArrayList<>(accepted.size());
+            for (GradeRow row : accepted) {
+                Submission submission = submissions.get(row.grade.getSubmissionId());
+                grades.add(new SubmissionGradedEvent(submission.getId(),
+                        submission.getAssessment().getId(), submission.getAssessment().getCourse().getId(),
+                        submission.getStudent().getId(), submission.getMarksObtained(),
+                        row.grade.getMarksObtained(), submission.isLateSubmission()));
+                results.add(new BulkRowResult(row.row, String.valueOf(submission.getId()), BulkRowResult.UPDATED,
+                        "Graded", submission.getId()));
+            }
+            // One event for the batch: the counters are updated per assessment and per student course
+            eventPublisher.publishEvent(new SubmissionsBulkGradedEvent(grades));
+        }
+        return BulkOperationReport.of(results, startedAt);
+    }
+
+    // Helper to write one RFC 4180 CSV line; text that a spreadsheet would run as a formula is prefixed with '
+    private void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                String value = values[i].toString();
+                if (values[i] instanceof CharSequence && isFormulaLike(value)) {
+                    value = "'" + value;
+                }
+                if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                        || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                    writer.write('"');
+                    writer.write(value.replace("\"", "\"\""));
+                    writer.write('"');
+                } else {
+                    writer.write(value);
+                }
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // Helper to spot cells Excel or Sheets would evaluate (=, +, -, @, or a leading tab or carriage return)
+    private static boolean isFormulaLike(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
     }
 
     // Helper method to convert Submission to SubmissionDTO
@@ -156,4 +453,14 @@ public class SubmissionServiceImpl implements SubmissionService {
         dto.setStatus(submission.getStatus().toString());
         return dto;
     }
+
+    private static final class GradeRow {
+        private final int row;
+        private final GradeRequest grade;
+
+        private GradeRow(int row, GradeRequest grade) {
+            this.row = row;
+            this.grade = grade;
+        }
+    }
 }
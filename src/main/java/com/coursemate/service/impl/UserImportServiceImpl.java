@@ -0,0 +1,399 @@
+package com.coursemate.service.impl;
+
+import com.coursemate.dto.BulkOperationReport;
+import com.coursemate.dto.BulkRowResult;
+import com.coursemate.dto.ExportFormat;
+import com.coursemate.dto.RegisterRequest;
+import com.coursemate.entity.Role;
+import com.coursemate.exception.BadRequestException;
+import com.coursemate.id.SnowflakeIdGenerator;
+import com.coursemate.repository.UserRepository;
+import com.coursemate.service.UserImportService;
+import com.coursemate.util.CsvReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk user import.
+ * The file is read as a stream and processed in chunks: each chunk is
+ * validated, checked against existing usernames and emails with two IN
+ * queries, hashed in parallel on a dedicated fork-join pool, and written with
+ * JDBC batch inserts into users and user_roles. Hashing happens outside any
+ * transaction; each chunk's inserts commit in their own short transaction, so
+ * no connection or row lock is held while BCrypt runs.
+ */
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportServiceImpl.class);
+
+    private static final List<String> CSV_COLUMNS =
+            List.of("firstname", "lastname", "username", "email", "password", "role");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.bulk.batch-size:500}")
+    private int bulkBatchSize;
+
+    @Value("${app.bulk.max-rows:10000}")
+    private int bulkMaxRows;
+
+    @Value("${app.users.import.hash-parallelism:0}")
+    private int hashParallelism;
+
+    private ForkJoinPool hashPool;
+
+    private TransactionTemplate chunkTransaction;
+
+    @PostConstruct
+    public void start() {
+        chunkTransaction = new TransactionTemplate(transactionManager);
+        int parallelism = hashParallelism > 0 ? hashParallelism : Runtime.getRuntime().availableProcessors();
+        hashPool = new ForkJoinPool(parallelism);
+        logger.info("User import hash pool started (parallelism {})", parallelism);
+    }
+
+    @PreDestroy
+    public void stop() {
+        hashPool.shutdown();
+    }
+
+    @Override
+    public BulkOperationReport importUsers(InputStream in, ExportFormat format) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        RowSource source = format == ExportFormat.CSV ? new CsvRowSource(reader) : new NdjsonRowSource(reader);
+
+        List<BulkRowResult> results = new ArrayList<>();
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(bulkBatchSize);
+        int rowCount = 0;
+
+        ImportRow row;
+        while ((row = source.next()) != null) {
+            if (++rowCount > bulkMaxRows) {
+                // Earlier chunks are already committed, so report the cut-off instead of failing the request
+                results.add(new BulkRowResult(row.row, row.key(), BulkRowResult.REJECTED,
+                        "User import is limited to " + bulkMaxRows + " rows per request; this and later rows were not imported",
+                        null));
+                break;
+            }
+            chunk.add(row);
+            if (chunk.size() >= bulkBatchSize) {
+                importChunk(chunk, seenUsernames, seenEmails, results);
+                chunk.clear();
+            }
+        }
+        importChunk(chunk, seenUsernames, seenEmails, results);
+        return BulkOperationReport.of(results, startedAt);
+    }
+
+    // Helper for one chunk: validate, dedupe, hash in parallel, then batch insert users and their roles in one transaction
+    private void importChunk(List<ImportRow> chunk, Set<String> seenUsernames, Set<String> seenEmails,
+                             List<BulkRowResult> results) {
+        List<ImportRow> candidates = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            String error = validate(row);
+            if (error != null) {
+                results.add(new BulkRowResult(row.row, row.key(), BulkRowResult.REJECTED, error, null));
+                continue;
+            }
+            String username = normalize(row.request.getUsername());
+            String email = normalize(row.request.getEmail());
+            if (seenUsernames.contains(username)) {
+                results.add(new BulkRowResult(row.row, row.key(), BulkRowResult.SKIPPED,
+                        "Duplicate username in file", null));
+            } else if (seenEmails.contains(email)) {
+                results.add(new BulkRowResult(row.row, row.key(), BulkRowResult.SKIPPED,
+                        "Duplicate email in file", null));
+            } else {
+                seenUsernames.add(username);
+                seenEmails.add(email);
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> takenUsernames = normalizeAll(userRepository.findExistingUsernames(
+                candidates.stream().map(row -> row.request.getUsername()).collect(Collectors.toList())));
+        Set<String> takenEmails = normalizeAll(userRepository.findExistingEmails(
+                candidates.stream().map(row -> row.request.getEmail()).collect(Collectors.toList())));
+
+        List<ImportRow> accepted = new ArrayList<>();
+        for (ImportRow row : candidates) {
+            if (takenUsernames.contains(normalize(row.request.getUsername()))) {
+                results.add(new BulkRowResult(row.row, row.key(), BulkRowResult.SKIPPED,
+                        "Username is already taken", null));
+            } else if (takenEmails.contains(normalize(row.request.getEmail()))) {
+                results.add(new BulkRowResult(row.row, row.key(), BulkRowResult.SKIPPED,
+                        "Email is already registered", null));
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        hashPasswords(accepted);
+
+        // Ids are assigned up front, so the role rows and the report need no read-back query
+        for (ImportRow row : accepted) {
+            row.userId = idGenerator.nextId();
+        }
+        try {
+            chunkTransaction.executeWithoutResult(status -> insertUsers(accepted));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent registration took one of the names after the check; the whole chunk rolled back
+            logger.warn("User import chunk rolled back: {}", e.getMessage());
+            for (ImportRow row : accepted) {
+                results.add(new BulkRowResult(row.row, row.key(), BulkRowResult.REJECTED,
+                        "Username or email was taken while importing; retry this row", null));
+            }
+            return;
+        }
+
+        for (ImportRow row : accepted) {
+            results.add(new BulkRowResult(row.row, row.key(), BulkRowResult.CREATED, "User created", row.userId));
+        }
+    }
+
+    // Helper to batch insert hashed users and their role rows
+    private void insertUsers(List<ImportRow> accepted) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (id, email, password, first_name, last_name, username, is_active, token_version, " +
+                        "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                accepted, bulkBatchSize, (ps, row) -> {
+                    ps.setLong(1, row.userId);
+                    ps.setString(2, row.request.getEmail());
+                    ps.setString(3, row.encodedPassword);
+                    ps.setString(4, row.request.getFirstName());
+                    ps.setString(5, row.request.getLastName());
+                    ps.setString(6, row.request.getUsername());
+                    ps.setBoolean(7, true);
+                    ps.setInt(8, 0);
+                    ps.setTimestamp(9, now);
+                    ps.setTimestamp(10, now);
+                });
+
+        jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)",
+                accepted, bulkBatchSize, (ps, row) -> {
+                    ps.setLong(1, row.userId);
+                    ps.setLong(2, row.roleId);
+                });
+    }
+
+    // Helper to check a row like the registration endpoint would; returns the rejection message or null
+    private String validate(ImportRow row) {
+        if (row.parseError != null) {
+            return row.parseError;
+        }
+        Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(row.request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+
+        Role.RoleType roleType;
+        try {
+            roleType = Role.RoleType.valueOf(row.request.getRole().trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return "Unknown role: " + row.request.getRole();
+        }
+        row.roleId = roleRegistry.getRoleId(roleType);
+        return row.roleId == null ? "Role not found: " + roleType : null;
+    }
+
+    // Helper to BCrypt every accepted password across all cores of the hash pool
+    private void hashPasswords(List<ImportRow> rows) {
+        try {
+            hashPool.submit(() -> rows.parallelStream()
+                    .forEach(row -> row.encodedPassword = passwordEncoder.encode(row.request.getPassword())))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("User import interrupted while hashing passwords", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    // Helper for case-insensitive comparisons, matching the database collation
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> normalizeAll(List<String> values) {
+        return values.stream().map(UserImportServiceImpl::normalize).collect(Collectors.toSet());
+    }
+
+    // Helper to trim the identifying fields of a parsed row
+    private static RegisterRequest trimmed(RegisterRequest request) {
+        if (request.getUsername() != null) {
+            request.setUsername(request.getUsername().trim());
+        }
+        if (request.getEmail() != null) {
+            request.setEmail(request.getEmail().trim());
+        }
+        return request;
+    }
+
+    private interface RowSource {
+        ImportRow next() throws IOException;
+    }
+
+    /**
+     * CSV rows mapped by a header line naming the columns in any order
+     */
+    private static final class CsvRowSource implements RowSource {
+        private final CsvReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        private CsvRowSource(BufferedReader in) throws IOException {
+            reader = new CsvReader(in);
+            List<String> header = reader.readRecord();
+            if (header != null) {
+                for (int i = 0; i < header.size(); i++) {
+                    columns.put(header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+                }
+            }
+            if (!columns.keySet().containsAll(CSV_COLUMNS)) {
+                throw new BadRequestException("CSV header must include columns: " + String.join(", ", CSV_COLUMNS));
+            }
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                RegisterRequest request = new RegisterRequest(
+                        field(record, "firstname"), field(record, "lastname"), field(record, "username"),
+                        field(record, "email"), field(record, "password"), field(record, "role"));
+                return new ImportRow(reader.getRecordLine(), trimmed(request), null);
+            }
+            return null;
+        }
+
+        private String field(List<String> record, String column) {
+            int index = columns.get(column);
+            return index < record.size() ? record.get(index) : null;
+        }
+    }
+
+    /**
+     * One JSON object per line with the registration request fields
+     */
+    private final class NdjsonRowSource implements RowSource {
+        private final BufferedReader reader;
+        private int lineNumber;
+
+        private NdjsonRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    RegisterRequest request = objectMapper.readValue(line, RegisterRequest.class);
+                    if (request == null) {
+                        return new ImportRow(lineNumber, new RegisterRequest(), "Expected a JSON object");
+                    }
+                    return new ImportRow(lineNumber, trimmed(request), null);
+                } catch (JsonProcessingException e) {
+                    return new ImportRow(lineNumber, new RegisterRequest(), "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class ImportRow {
+        private final int row;
+        private final RegisterRequest request;
+        private final String parseError;
+        private Long roleId;
+        private String encodedPassword;
+        private Long userId;
+
+        private ImportRow(int row, RegisterRequest request, String parseError) {
+            this.row = row;
+            this.request = request;
+            this.parseError = parseError;
+        }
+
+        private String key() {
+            return request.getUsername();
+        }
+    }
+}
@@ -1,15 +1,27 @@
 package com.coursemate.service.impl;
 
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.PageQuery;
 import com.coursemate.dto.UserDTO;
+import com.coursemate.entity.Role;
 import com.coursemate.entity.User;
+import com.coursemate.event.CourseChangedEvent;
+import com.coursemate.event.UserChangedEvent;
+import com.coursemate.exception.BadRequestException;
 import com.coursemate.exception.ResourceNotFoundException;
+import com.coursemate.repository.CourseRepository;
+import com.coursemate.repository.RoleRepository;
 import com.coursemate.repository.UserRepository;
 import com.coursemate.service.UserService;
+import com.coursemate.util.PageResults;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -19,10 +31,22 @@ import java.util.stream.Collectors;
 @Transactional
 public class UserServiceImpl implements UserService {
 
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "username", "email", "lastName", "createdAt");
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
     @Override
+    @Transactional(readOnly = true)
     public UserDTO getUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.of("User", "id", id));
@@ -30,6 +54,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserDTO getUserByUsername(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> ResourceNotFoundException.of("User", "username", username));
@@ -37,6 +62,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserDTO getUserByEmail(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> ResourceNotFoundException.of("User", "email", email));
@@ -47,6 +73,7 @@ public class UserServiceImpl implements UserService {
     public UserDTO updateUser(Long id, UserDTO userDTO) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.of("User", "id", id));
+        String previousName = user.getFullName();
 
         user.setFirstName(userDTO.getFirstName());
         user.setLastName(userDTO.getLastName());
@@ -54,6 +81,13 @@ public class UserServiceImpl implements UserService {
         user.setProfilePictureUrl(userDTO.getProfilePictureUrl());
 
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId(), updatedUser.getUsername(), false));
+        if (!previousName.equals(updatedUser.getFullName())) {
+            // Course summaries and the search index carry the instructor's name
+            for (Long courseId : courseRepository.findIdsByInstructorId(id)) {
+                eventPublisher.publishEvent(new CourseChangedEvent(courseId, false));
+            }
+        }
         return convertToDTO(updatedUser);
     }
 
@@ -62,9 +96,59 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.of("User", "id", id));
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getUsername(), true));
     }
 
+    /**
+     * Deactivating a user also revokes every token issued to them
+     */
     @Override
+    public UserDTO setUserActive(Long id, boolean active) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> ResourceNotFoundException.of("User", "id", id));
+        if (user.getIsActive() == active) {
+            return convertToDTO(user);
+        }
+
+        user.setIsActive(active);
+        user.revokeTokens();
+        User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId(), updatedUser.getUsername(), false));
+        return convertToDTO(updatedUser);
+    }
+
+    /**
+     * Replace the user's roles; tokens carrying the old roles are revoked
+     */
+    @Override
+    public UserDTO updateUserRoles(Long id, Set<String> roleNames) {
+        if (roleNames == null || roleNames.isEmpty()) {
+            throw new BadRequestException("At least one role is required");
+        }
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> ResourceNotFoundException.of("User", "id", id));
+
+        Set<Role.RoleType> requested = roleNames.stream().map(this::parseRole).collect(Collectors.toSet());
+        Set<Role.RoleType> current = user.getRoles().stream().map(Role::getName).collect(Collectors.toSet());
+        if (requested.equals(current)) {
+            return convertToDTO(user);
+        }
+
+        Set<Role> roles = new HashSet<>();
+        for (Role.RoleType roleType : requested) {
+            roles.add(roleRepository.findByName(roleType)
+                    .orElseThrow(() -> new BadRequestException("Role not found: " + roleType)));
+        }
+
+        user.setRoles(roles);
+        user.revokeTokens();
+        User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId(), updatedUser.getUsername(), false));
+        return convertToDTO(updatedUser);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<UserDTO> getAllInstructors() {
         return userRepository.findAllInstructors().stream()
                 .map(this::convertToDTO)
@@ -72,6 +156,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserDTO> getAllStudents() {
         return userRepository.findAllStudents().stream()
                 .map(this::convertToDTO)
@@ -79,6 +164,22 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserDTO> getStudents(PageQuery pageQuery) {
+        if (pageQuery.isOffset()) {
+            return PageResults.fromPage(
+                    userRepository.findStudents(PageResults.offsetPageable(pageQuery, SORTABLE_FIELDS)),
+                    this::convertToDTO);
+        }
+        Long seekId = PageResults.seekId(pageQuery);
+        List<User> rows = pageQuery.isDescending()
+                ? userRepository.findStudentsBefore(seekId, PageResults.keysetPageable(pageQuery))
+                : userRepository.findStudentsAfter(seekId, PageResults.keysetPageable(pageQuery));
+        return PageResults.fromKeyset(rows, pageQuery, User::getId, this::convertToDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<UserDTO> getAllUsers() {
         return userRepository.findAll().stream()
                 .map(this::convertToDTO)
@@ -86,15 +187,42 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserDTO> getUsers(PageQuery pageQuery) {
+        if (pageQuery.isOffset()) {
+            return PageResults.fromPage(
+                    userRepository.findAll(PageResults.offsetPageable(pageQuery, SORTABLE_FIELDS)),
+                    this::convertToDTO);
+        }
+        Long seekId = PageResults.seekId(pageQuery);
+        List<User> rows = pageQuery.isDescending()
+                ? userRepository.findByIdLessThan(seekId, PageResults.keysetPageable(pageQuery))
+                : userRepository.findByIdGreaterThan(seekId, PageResults.keysetPageable(pageQuery));
+        return PageResults.fromKeyset(rows, pageQuery, User::getId, this::convertToDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Boolean existsByUsername(String username) {
         return userRepository.existsByUsername(username);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
 
+    // Helper method to resolve a role name such as "student" or "ROLE_STUDENT"
+    private Role.RoleType parseRole(String roleName) {
+        String name = roleName.trim().toUpperCase();
+        try {
+            return Role.RoleType.valueOf(name.startsWith("ROLE_") ? name.substring(5) : name);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Role not found: " + roleName);
+        }
+    }
+
     // Helper method to convert User to UserDTO
     private UserDTO convertToDTO(User user) {
         UserDTO dto = new UserDTO();
@@ -0,0 +1,93 @@
+package com.coursemate.util;
+
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.PageInfo;
+import com.coursemate.dto.PageQuery;
+import com.coursemate.exception.BadRequestException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Helpers for keyset (cursor) and offset paging of list endpoints
+ */
+public final class PageResults {
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private PageResults() {
+    }
+
+    /**
+     * Id to seek from: rows after it (ascending) or before it (descending)
+     */
+    public static Long seekId(PageQuery query) {
+        if (query.getCursor() == null || query.getCursor().isBlank()) {
+            return query.isDescending() ? Long.MAX_VALUE : 0L;
+        }
+        return decodeCursor(query.getCursor());
+    }
+
+    /**
+     * Limit for a keyset query; one extra row tells whether another page exists
+     */
+    public static Pageable keysetPageable(PageQuery query) {
+        Sort.Direction direction = query.isDescending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return PageRequest.of(0, query.limit() + 1, Sort.by(direction, "id"));
+    }
+
+    public static Pageable offsetPageable(PageQuery query, Set<String> sortableFields) {
+        String sort = query.getSort() == null ? "id" : query.getSort();
+        if (!sortableFields.contains(sort)) {
+            throw new BadRequestException("Cannot sort by '" + sort + "'. Allowed: " + sortableFields);
+        }
+        if (query.getPage() < 0) {
+            throw new BadRequestException("Page number cannot be negative");
+        }
+        Sort.Direction direction = query.isDescending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return PageRequest.of(query.getPage(), query.limit(), Sort.by(direction, sort).and(Sort.by(direction, "id")));
+    }
+
+    public static <E, D> CursorPage<D> fromKeyset(List<E> rows, PageQuery query,
+                                                   Function<E, Long> idOf, Function<E, D> mapper) {
+        int limit = query.limit();
+        boolean hasNext = rows.size() > limit;
+        List<E> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = hasNext ? encodeCursor(idOf.apply(pageRows.get(pageRows.size() - 1))) : null;
+        List<D> items = pageRows.stream().map(mapper).collect(Collectors.toList());
+        return new CursorPage<>(items, new PageInfo(nextCursor, hasNext, items.size(), null, null, null));
+    }
+
+    public static <E, D> CursorPage<D> fromPage(Page<E> page, Function<E, D> mapper) {
+        List<D> items = page.getContent().stream().map(mapper).collect(Collectors.toList());
+        PageInfo pageInfo = new PageInfo(null, page.hasNext(), items.size(), page.getNumber(),
+                page.getTotalElements(), page.getTotalPages());
+        return new CursorPage<>(items, pageInfo);
+    }
+
+    public static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new BadRequestException("Invalid page cursor");
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid page cursor");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+-- Baseline schema: the tables ddl-auto=update created for the application before
+-- migrations were introduced. Such databases are baselined at this version
+-- (spring.flyway.baseline-on-migrate) and start from V2; empty databases are built from here.
+
+CREATE TABLE roles (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    name        ENUM ('ADMIN','INSTRUCTOR','STUDENT') NOT NULL,
+    description VARCHAR(500),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_roles_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    email               VARCHAR(255) NOT NULL,
+    password            VARCHAR(255) NOT NULL,
+    first_name          VARCHAR(255) NOT NULL,
+    last_name           VARCHAR(255) NOT NULL,
+    username            VARCHAR(255) NOT NULL,
+    bio                 VARCHAR(1000),
+    profile_picture_url VARCHAR(255),
+    is_active           BIT          NOT NULL,
+    created_at          DATETIME(6)  NOT NULL,
+    updated_at          DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE courses (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    title         VARCHAR(255) NOT NULL,
+    description   VARCHAR(1000),
+    course_code   VARCHAR(255) NOT NULL,
+    credits       INT          NOT NULL,
+    instructor_id BIGINT       NOT NULL,
+    max_students  INT          NOT NULL,
+    is_active     BIT          NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_courses_course_code UNIQUE (course_code),
+    CONSTRAINT fk_courses_instructor FOREIGN KEY (instructor_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE assessments (
+    id            BIGINT                                                    NOT NULL AUTO_INCREMENT,
+    title         VARCHAR(255)                                              NOT NULL,
+    description   VARCHAR(2000),
+    type          ENUM ('QUIZ','ASSIGNMENT','EXAM','PROJECT','PARTICIPATION') NOT NULL,
+    course_id     BIGINT                                                    NOT NULL,
+    total_marks   DOUBLE                                                    NOT NULL,
+    passing_marks DOUBLE                                                    NOT NULL,
+    due_date      DATETIME(6)                                               NOT NULL,
+    is_published  BIT                                                       NOT NULL,
+    created_at    DATETIME(6)                                               NOT NULL,
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_assessments_course FOREIGN KEY (course_id) REFERENCES courses (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE enrollments (
+    id          BIGINT                                            NOT NULL AUTO_INCREMENT,
+    student_id  BIGINT                                            NOT NULL,
+    course_id   BIGINT                                            NOT NULL,
+    status      ENUM ('ACTIVE','COMPLETED','DROPPED','SUSPENDED') NOT NULL,
+    grade       DOUBLE                                            NOT NULL,
+    enrolled_at DATETIME(6)                                       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_enrollments_student_course UNIQUE (student_id, course_id),
+    CONSTRAINT fk_enrollments_student FOREIGN KEY (student_id) REFERENCES users (id),
+    CONSTRAINT fk_enrollments_course FOREIGN KEY (course_id) REFERENCES courses (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE progress (
+    id                          BIGINT                                                        NOT NULL AUTO_INCREMENT,
+    student_id                  BIGINT                                                        NOT NULL,
+    course_id                   BIGINT                                                        NOT NULL,
+    completion_percentage       DOUBLE                                                        NOT NULL,
+    average_score               DOUBLE                                                        NOT NULL,
+    status                      ENUM ('NOT_STARTED','IN_PROGRESS','COMPLETED','ON_HOLD','FAILED') NOT NULL,
+    total_assignments_submitted INT                                                           NOT NULL,
+    total_assignments_assigned  INT                                                           NOT NULL,
+    start_date                  DATETIME(6)                                                   NOT NULL,
+    last_updated                DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_progress_student_course UNIQUE (student_id, course_id),
+    CONSTRAINT fk_progress_student FOREIGN KEY (student_id) REFERENCES users (id),
+    CONSTRAINT fk_progress_course FOREIGN KEY (course_id) REFERENCES courses (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE submissions (
+    id                  BIGINT                                        NOT NULL AUTO_INCREMENT,
+    assessment_id       BIGINT                                        NOT NULL,
+    student_id          BIGINT                                        NOT NULL,
+    submission_content  VARCHAR(5000),
+    submission_file_url VARCHAR(500),
+    marks_obtained      DOUBLE,
+    feedback            VARCHAR(2000),
+    submitted_at        DATETIME(6)                                   NOT NULL,
+    graded_at           DATETIME(6),
+    status              ENUM ('SUBMITTED','GRADED','LATE','MISSING') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_submissions_assessment FOREIGN KEY (assessment_id) REFERENCES assessments (id),
+    CONSTRAINT fk_submissions_student FOREIGN KEY (student_id) REFERENCES users (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,45 @@
+-- Columns and tables added after the baseline, with their initial values.
+-- Entity ids are assigned by the application (Snowflake ids) from here on; the
+-- AUTO_INCREMENT attribute left on the baseline id columns is no longer used
+-- and stays, since removing it from a referenced key needs foreign keys off.
+
+-- Seat counter maintained by the atomic reservation UPDATE, starting from the active enrollments
+ALTER TABLE courses
+    ADD COLUMN seats_taken INT NOT NULL DEFAULT 0;
+
+UPDATE courses c
+SET c.seats_taken = (SELECT COUNT(*) FROM enrollments e WHERE e.course_id = c.id AND e.status = 'ACTIVE');
+
+-- Running grade totals behind progress.average_score (filled from submissions in a later migration)
+ALTER TABLE progress
+    ADD COLUMN graded_count INT    NOT NULL DEFAULT 0,
+    ADD COLUMN total_score  DOUBLE NOT NULL DEFAULT 0;
+
+-- Per-assessment statistics, maintained by AssessmentStatsEventListener
+CREATE TABLE assessment_stats (
+    assessment_id        BIGINT NOT NULL,
+    submission_count     BIGINT NOT NULL,
+    graded_count         BIGINT NOT NULL,
+    late_count           BIGINT NOT NULL,
+    marks_sum            DOUBLE NOT NULL,
+    marks_sum_of_squares DOUBLE NOT NULL,
+    min_marks            DOUBLE,
+    max_marks            DOUBLE,
+    last_updated         DATETIME(6),
+    PRIMARY KEY (assessment_id)
+) ENGINE = InnoDB;
+
+INSERT INTO assessment_stats (assessment_id, submission_count, graded_count, late_count,
+                              marks_sum, marks_sum_of_squares, min_marks, max_marks, last_updated)
+SELECT a.id,
+       COUNT(s.id),
+       COUNT(s.marks_obtained),
+       COALESCE(SUM(CASE WHEN s.submitted_at > a.due_date THEN 1 ELSE 0 END), 0),
+       COALESCE(SUM(s.marks_obtained), 0),
+       COALESCE(SUM(s.marks_obtained * s.marks_obtained), 0),
+       MIN(s.marks_obtained),
+       MAX(s.marks_obtained),
+       CURRENT_TIMESTAMP(6)
+FROM assessments a
+         LEFT JOIN submissions s ON s.assessment_id = a.id
+GROUP BY a.id;
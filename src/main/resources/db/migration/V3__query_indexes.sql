@@ -0,0 +1,44 @@
+-- Composite and covering indexes for the repository queries.
+-- InnoDB appends the primary key to every secondary index, so an index on (x)
+-- also serves "WHERE x = ? ORDER BY id" and keyset paging on id within x.
+-- Creating an index whose leading column is a foreign key lets MySQL drop the
+-- single-column index it created implicitly for that key.
+
+-- submissions
+-- One submission per student per assessment; also serves every lookup and
+-- keyset page by assessment. Databases built by ddl-auto=update never had this
+-- key: resolve any duplicate (assessment_id, student_id) rows before migrating,
+-- e.g. with
+--   SELECT assessment_id, student_id, COUNT(*) FROM submissions
+--   GROUP BY assessment_id, student_id HAVING COUNT(*) > 1;
+ALTER TABLE submissions
+    ADD CONSTRAINT uk_submissions_assessment_student UNIQUE (assessment_id, student_id);
+-- Graded listing by assessment; covers the per-assessment count and average
+CREATE INDEX idx_submissions_assessment_status ON submissions (assessment_id, status, marks_obtained);
+-- Submissions by student, and by student within a course (joined through assessment_id)
+CREATE INDEX idx_submissions_student_assessment ON submissions (student_id, assessment_id);
+
+-- enrollments
+-- (student_id, course_id) is already unique and serves lookups by student.
+-- Listing, paging and active counts by course; covers the enrollment count
+-- subquery of the course summary projection and the seat count resync.
+CREATE INDEX idx_enrollments_course_status ON enrollments (course_id, status);
+
+-- courses
+-- Active catalogue listing
+CREATE INDEX idx_courses_active ON courses (is_active);
+-- Courses by instructor, optionally active only
+CREATE INDEX idx_courses_instructor_active ON courses (instructor_id, is_active);
+
+-- assessments
+-- Assessments by course, optionally published only
+CREATE INDEX idx_assessments_course_published ON assessments (course_id, is_published);
+
+-- progress
+-- (student_id, course_id) is already unique and serves lookups by student.
+-- Progress by course and completed by course; covers the per-course averages.
+CREATE INDEX idx_progress_course_status ON progress (course_id, status, completion_percentage, average_score);
+
+-- user_roles
+-- Users by role (student and instructor listings); the primary key leads with user_id
+CREATE INDEX idx_user_roles_role_user ON user_roles (role_id, user_id);
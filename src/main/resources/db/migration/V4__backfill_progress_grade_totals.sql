@@ -0,0 +1,16 @@
+-- Fill the progress grade totals added in V2 from the graded submissions.
+-- ProgressEventListener applies each new grade as a delta on graded_count and
+-- total_score, and derives average_score from them; left at zero, the first
+-- grade after the upgrade would replace every existing average with that grade alone.
+UPDATE progress p
+    LEFT JOIN (SELECT s.student_id,
+                      a.course_id,
+                      COUNT(s.marks_obtained)            AS graded,
+                      COALESCE(SUM(s.marks_obtained), 0) AS total
+               FROM submissions s
+                        JOIN assessments a ON a.id = s.assessment_id
+               GROUP BY s.student_id, a.course_id) t
+    ON t.student_id = p.student_id AND t.course_id = p.course_id
+SET p.graded_count  = COALESCE(t.graded, 0),
+    p.total_score   = COALESCE(t.total, 0),
+    p.average_score = CASE WHEN t.graded > 0 THEN t.total / t.graded ELSE 0 END;
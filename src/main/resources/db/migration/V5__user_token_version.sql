@@ -0,0 +1,4 @@
+-- Per-user token version checked against the "ver" claim of self-contained tokens.
+-- Bumped on deactivation and role changes; shared by every node through the users row.
+ALTER TABLE users
+    ADD COLUMN token_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,18 @@
+-- Snowflake node id leases: each running node holds one row (instance_id) and
+-- renews expires_at in the background, so no two live nodes share a node id.
+CREATE TABLE id_node_leases (
+    node_id     INT         NOT NULL,
+    instance_id VARCHAR(64) NOT NULL,
+    expires_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (node_id)
+) ENGINE = InnoDB;
+
+INSERT INTO id_node_leases (node_id, instance_id, expires_at)
+VALUES (0, '', '1970-01-02'), (1, '', '1970-01-02'), (2, '', '1970-01-02'), (3, '', '1970-01-02'),
+       (4, '', '1970-01-02'), (5, '', '1970-01-02'), (6, '', '1970-01-02'), (7, '', '1970-01-02'),
+       (8, '', '1970-01-02'), (9, '', '1970-01-02'), (10, '', '1970-01-02'), (11, '', '1970-01-02'),
+       (12, '', '1970-01-02'), (13, '', '1970-01-02'), (14, '', '1970-01-02'), (15, '', '1970-01-02'),
+       (16, '', '1970-01-02'), (17, '', '1970-01-02'), (18, '', '1970-01-02'), (19, '', '1970-01-02'),
+       (20, '', '1970-01-02'), (21, '', '1970-01-02'), (22, '', '1970-01-02'), (23, '', '1970-01-02'),
+       (24, '', '1970-01-02'), (25, '', '1970-01-02'), (26, '', '1970-01-02'), (27, '', '1970-01-02'),
+       (28, '', '1970-01-02'), (29, '', '1970-01-02'), (30, '', '1970-01-02'), (31, '', '1970-01-02');
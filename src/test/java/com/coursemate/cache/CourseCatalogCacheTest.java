@@ -0,0 +1,74 @@
+package com.coursemate.cache;
+
+import com.coursemate.dto.CourseDTO;
+import com.coursemate.event.EnrollmentChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseCatalogCacheTest {
+
+    private CourseCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheRegistry registry = new CacheRegistry();
+        ReflectionTestUtils.setField(registry, "invalidationBus", new LoopbackInvalidationBus());
+        ReflectionTestUtils.setField(registry, "configuredNodeId", "node-a");
+        registry.init();
+
+        cache = new CourseCatalogCache();
+        ReflectionTestUtils.setField(cache, "cacheRegistry", registry);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        cache.init();
+    }
+
+    @Test
+    void coldCodeLookupReadsTheCourseOnce() {
+        AtomicInteger loads = new AtomicInteger();
+
+        CourseDTO course = cache.getByCode("CS101", () -> course(7L, loads.incrementAndGet()));
+
+        assertThat(course.getId()).isEqualTo(7L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void warmCodeLookupResolvesThroughTheIdCache() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.getByCode("CS101", () -> course(7L, loads.incrementAndGet()));
+        cache.getById(7L, () -> course(7L, loads.incrementAndGet()));
+
+        CourseDTO course = cache.getByCode("CS101", () -> course(7L, loads.incrementAndGet()));
+
+        assertThat(course.getCredits()).isEqualTo(2);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void enrollmentChangeReloadsTheCourseBehindACachedCode() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.getByCode("CS101", () -> course(7L, loads.incrementAndGet()));
+        cache.getByCode("CS101", () -> course(7L, loads.incrementAndGet()));
+
+        cache.onEnrollmentChanged(new EnrollmentChangedEvent(7L));
+        CourseDTO course = cache.getByCode("CS101", () -> course(7L, loads.incrementAndGet()));
+
+        assertThat(course.getCredits()).isEqualTo(3);
+    }
+
+    // Credits stand in for a load counter so tests can tell which read they got
+    private CourseDTO course(Long id, int load) {
+        CourseDTO course = new CourseDTO();
+        course.setId(id);
+        course.setCourseCode("CS101");
+        course.setCredits(load);
+        return course;
+    }
+}
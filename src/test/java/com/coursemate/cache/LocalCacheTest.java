@@ -0,0 +1,140 @@
+package com.coursemate.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalCacheTest {
+
+    private final LocalCache<Long, String> cache = new LocalCache<>("test", 100, 60_000);
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    loadStarted.countDown();
+                    await(release);
+                    return "value";
+                })));
+            }
+            assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void loadOverlappingInvalidationIsReturnedButNotCached() {
+        String value = cache.get(1L, () -> {
+            // A commit invalidates the key while the old row is being read
+            cache.invalidate(1L);
+            return "stale";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.get(1L, () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void staleTicketCannotOverwriteANewerLoad() {
+        LocalCache.LoadTicket first = cache.beginLoad(1L);
+        cache.invalidate(1L);
+        LocalCache.LoadTicket second = cache.beginLoad(1L);
+
+        assertThat(cache.completeLoad(1L, first, "old", null)).isFalse();
+        assertThat(cache.completeLoad(1L, second, "new", null)).isTrue();
+        assertThat(cache.getIfPresent(1L)).isEqualTo("new");
+    }
+
+    @Test
+    void invalidateKeysOnlyCancelsMatchingLoads() {
+        cache.get(2L, () -> {
+            cache.invalidateKeys(key -> key == 1L);
+            return "two";
+        });
+
+        assertThat(cache.getIfPresent(2L)).isEqualTo("two");
+    }
+
+    @Test
+    void loaderFailureReachesTheCallerAndCachesNothing() {
+        assertThatThrownBy(() -> cache.get(1L, () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.getSize()).isZero();
+        assertThat(cache.get(1L, () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void expiredEntryIsLoadedAgain() {
+        LocalCache<Long, String> expiring = new LocalCache<>("expiring", 100, 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        expiring.get(1L, () -> "v" + loads.incrementAndGet());
+        String second = expiring.get(1L, () -> "v" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("v2");
+    }
+
+    @Test
+    void fullCacheEvictsTheOldestEntryToAdmitANewOne() {
+        LocalCache<Long, String> small = new LocalCache<>("small", 2, 60_000);
+
+        small.get(1L, () -> "one");
+        small.get(2L, () -> "two");
+        small.get(3L, () -> "three");
+
+        assertThat(small.getSize()).isEqualTo(2);
+        assertThat(small.getIfPresent(1L)).isNull();
+        assertThat(small.getIfPresent(2L)).isEqualTo("two");
+        assertThat(small.getIfPresent(3L)).isEqualTo("three");
+    }
+
+    @Test
+    void reloadedEntryIsNotEvictedThroughItsOldPosition() {
+        LocalCache<Long, String> small = new LocalCache<>("small", 2, 60_000);
+        small.get(1L, () -> "old");
+        small.get(2L, () -> "two");
+        small.invalidate(1L);
+        small.get(1L, () -> "new");
+
+        small.get(3L, () -> "three");
+
+        assertThat(small.getIfPresent(1L)).isEqualTo("new");
+        assertThat(small.getIfPresent(2L)).isNull();
+        assertThat(small.getIfPresent(3L)).isEqualTo("three");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.coursemate.cache;
+
+import com.coursemate.dto.ProgressDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProgressReadCacheTest {
+
+    private ProgressReadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProgressReadCache();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        cache.init();
+    }
+
+    @Test
+    void repeatedReadIsServedFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, 10L, () -> progress(loads.incrementAndGet()));
+        ProgressDTO second = cache.get(1L, 10L, () -> progress(loads.incrementAndGet()));
+
+        assertThat(second.getAverageScore()).isEqualTo(1.0);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getHitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void loadOverlappingEvictionOfItsKeyIsNotCached() {
+        cache.get(1L, 10L, () -> {
+            cache.evict(1L, 10L);
+            return progress(1);
+        });
+
+        assertThat(cache.getSize()).isZero();
+        assertThat(cache.get(1L, 10L, () -> progress(2)).getAverageScore()).isEqualTo(2.0);
+    }
+
+    @Test
+    void evictionOfAnotherStudentDoesNotCancelTheLoad() {
+        cache.get(1L, 10L, () -> {
+            cache.evict(2L, 10L);
+            return progress(1);
+        });
+
+        assertThat(cache.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void loadOverlappingCourseEvictionIsNotCached() {
+        cache.get(1L, 10L, () -> {
+            cache.evictCourse(10L);
+            return progress(1);
+        });
+
+        assertThat(cache.getSize()).isZero();
+    }
+
+    @Test
+    void evictCourseOnlyDropsThatCourse() {
+        cache.get(1L, 10L, () -> progress(1));
+        cache.get(2L, 10L, () -> progress(1));
+        cache.get(1L, 110L, () -> progress(1));
+
+        cache.evictCourse(10L);
+
+        assertThat(cache.getSize()).isEqualTo(1);
+        assertThat(cache.get(1L, 110L, () -> progress(2)).getAverageScore()).isEqualTo(1.0);
+    }
+
+    private ProgressDTO progress(double averageScore) {
+        ProgressDTO dto = new ProgressDTO();
+        dto.setAverageScore(averageScore);
+        return dto;
+    }
+}
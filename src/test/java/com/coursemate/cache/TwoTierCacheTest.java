@@ -0,0 +1,130 @@
+package com.coursemate.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two cache registries on one machine sharing a LoopbackInvalidationBus and
+ * an in-memory shared tier behave like two API nodes.
+ */
+class TwoTierCacheTest {
+
+    private static final String CACHE = "courses.byId";
+
+    private LoopbackInvalidationBus bus;
+    private InMemorySharedCacheTier sharedTier;
+
+    private TwoTierCache<Long, String> nodeA;
+    private TwoTierCache<Long, String> nodeB;
+
+    @BeforeEach
+    void setUp() {
+        bus = new LoopbackInvalidationBus();
+        sharedTier = new InMemorySharedCacheTier();
+        nodeA = registry("node-a").create(CACHE, true, 100, 60_000);
+        nodeB = registry("node-b").create(CACHE, true, 100, 60_000);
+    }
+
+    @Test
+    void secondNodeIsServedFromSharedTier() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(nodeA.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(nodeB.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidationOnOneNodeClearsTheOtherNodesNearCacheAndSharedTier() {
+        nodeA.get(1L, () -> "old");
+        nodeB.get(1L, () -> "old");
+
+        nodeA.invalidate(1L);
+
+        assertThat(sharedTier.get(CACHE, "1")).isNull();
+        assertThat(nodeB.getNearCache().getIfPresent("1")).isNull();
+        assertThat(nodeB.get(1L, () -> "new")).isEqualTo("new");
+        assertThat(nodeA.get(1L, () -> "unused")).isEqualTo("new");
+        assertThat(bus.getPublishedCount()).isEqualTo(1);
+        assertThat(bus.getDeliveredCount()).isEqualTo(1);
+    }
+
+    @Test
+    void nodeReloadingOnTheBroadcastDoesNotSeeTheOldSharedValue() {
+        nodeA.get(1L, () -> "old");
+        nodeB.get(1L, () -> "old");
+        String[] reloaded = {null};
+        bus.subscribe("node-c", invalidation -> reloaded[0] = nodeB.get(1L, () -> "fresh"));
+
+        nodeA.invalidate(1L);
+
+        assertThat(reloaded[0]).isEqualTo("fresh");
+        assertThat(nodeA.get(1L, () -> "unused")).isEqualTo("fresh");
+    }
+
+    @Test
+    void loadOverlappingRemoteInvalidationIsNotCachedInEitherTier() {
+        String value = nodeB.get(1L, () -> {
+            // Another node commits a change while this load is reading
+            nodeA.invalidate(1L);
+            return "stale";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(sharedTier.get(CACHE, "1")).isNull();
+        assertThat(nodeB.getNearCache().getIfPresent("1")).isNull();
+        assertThat(nodeA.get(1L, () -> "fresh")).isEqualTo("fresh");
+        assertThat(nodeB.get(1L, () -> "unused")).isEqualTo("fresh");
+    }
+
+    @Test
+    void loadOverlappingLocalInvalidationIsNotCachedInEitherTier() {
+        nodeA.get(1L, () -> {
+            nodeA.invalidate(1L);
+            return "stale";
+        });
+
+        assertThat(sharedTier.get(CACHE, "1")).isNull();
+        assertThat(nodeB.get(1L, () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void invalidatingOneKeyDoesNotCancelLoadsOfOtherKeys() {
+        nodeA.get(2L, () -> {
+            nodeB.invalidate(1L);
+            return "two";
+        });
+
+        assertThat(nodeA.getNearCache().getIfPresent("2")).isEqualTo("two");
+        assertThat(sharedTier.get(CACHE, "2")).isEqualTo("two");
+    }
+
+    @Test
+    void invalidateAllReachesEveryNode() {
+        nodeA.get(1L, () -> "one");
+        nodeB.get(2L, () -> "two");
+
+        nodeB.invalidateAll();
+
+        assertThat(nodeA.getNearCache().getSize()).isZero();
+        assertThat(nodeB.getNearCache().getSize()).isZero();
+        assertThat(sharedTier.get(CACHE, "1")).isNull();
+        assertThat(sharedTier.get(CACHE, "2")).isNull();
+    }
+
+    private CacheRegistry registry(String nodeId) {
+        CacheRegistry registry = new CacheRegistry();
+        ReflectionTestUtils.setField(registry, "sharedTier", sharedTier);
+        ReflectionTestUtils.setField(registry, "invalidationBus", bus);
+        ReflectionTestUtils.setField(registry, "configuredNodeId", nodeId);
+        ReflectionTestUtils.setField(registry, "sharedTierEnabled", true);
+        registry.init();
+        return registry;
+    }
+}
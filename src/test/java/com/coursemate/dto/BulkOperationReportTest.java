@@ -0,0 +1,28 @@
+package com.coursemate.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkOperationReportTest {
+
+    @Test
+    void ordersRowsAndCountsEachOutcome() {
+        List<BulkRowResult> results = new ArrayList<>(List.of(
+                new BulkRowResult(4, "d", BulkRowResult.REJECTED, "Marks are required", null),
+                new BulkRowResult(2, "b", BulkRowResult.UPDATED, "Graded", 20L),
+                new BulkRowResult(3, "c", BulkRowResult.SKIPPED, "Duplicate in request", null),
+                new BulkRowResult(1, "a", BulkRowResult.CREATED, "Enrolled", 10L)));
+
+        BulkOperationReport report = BulkOperationReport.of(results, System.currentTimeMillis());
+
+        assertThat(report.getTotal()).isEqualTo(4);
+        assertThat(report.getSucceeded()).isEqualTo(2);
+        assertThat(report.getSkipped()).isEqualTo(1);
+        assertThat(report.getRejected()).isEqualTo(1);
+        assertThat(report.getResults()).extracting(BulkRowResult::getRow).containsExactly(1, 2, 3, 4);
+    }
+}
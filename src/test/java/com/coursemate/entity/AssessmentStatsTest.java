@@ -0,0 +1,67 @@
+package com.coursemate.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AssessmentStatsTest {
+
+    @Test
+    void addingGradesKeepsRunningTotals() {
+        AssessmentStats stats = stats(40.0, 60.0, 80.0);
+
+        assertThat(stats.getGradedCount()).isEqualTo(3L);
+        assertThat(stats.getAverageMarks()).isEqualTo(60.0);
+        assertThat(stats.getStandardDeviation()).isCloseTo(16.3299, within(1e-4));
+        assertThat(stats.getMinMarks()).isEqualTo(40.0);
+        assertThat(stats.getMaxMarks()).isEqualTo(80.0);
+    }
+
+    @Test
+    void removingAnInteriorMarkKeepsTheExtremes() {
+        AssessmentStats stats = stats(40.0, 60.0, 80.0);
+
+        assertThat(stats.removeGrade(60.0)).isFalse();
+        assertThat(stats.getGradedCount()).isEqualTo(2L);
+        assertThat(stats.getAverageMarks()).isEqualTo(60.0);
+    }
+
+    @Test
+    void removingAnExtremeAsksForARecompute() {
+        AssessmentStats stats = stats(40.0, 60.0, 80.0);
+
+        assertThat(stats.removeGrade(80.0)).isTrue();
+        assertThat(stats.removeGrade(40.0)).isTrue();
+    }
+
+    @Test
+    void removingAMarkWithinRoundingOfAnExtremeAsksForARecompute() {
+        AssessmentStats stats = stats(10.0, 0.1 + 0.2);
+
+        assertThat(stats.removeGrade(0.3)).isTrue();
+    }
+
+    @Test
+    void removingTheLastGradeClearsTheTotals() {
+        AssessmentStats stats = stats(0.1, 0.2);
+
+        stats.removeGrade(0.1);
+        assertThat(stats.removeGrade(0.2)).isFalse();
+
+        assertThat(stats.getGradedCount()).isZero();
+        assertThat(stats.getMarksSum()).isZero();
+        assertThat(stats.getMarksSumOfSquares()).isZero();
+        assertThat(stats.getMinMarks()).isNull();
+        assertThat(stats.getMaxMarks()).isNull();
+        assertThat(stats.getAverageMarks()).isZero();
+    }
+
+    private AssessmentStats stats(double... marks) {
+        AssessmentStats stats = new AssessmentStats(1L);
+        for (double mark : marks) {
+            stats.addGrade(mark);
+        }
+        return stats;
+    }
+}
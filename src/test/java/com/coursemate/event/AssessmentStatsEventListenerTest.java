@@ -0,0 +1,119 @@
+package com.coursemate.event;
+
+import com.coursemate.entity.AssessmentStats;
+import com.coursemate.repository.AssessmentStatsRepository;
+import com.coursemate.repository.SubmissionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssessmentStatsEventListenerTest {
+
+    @Mock
+    private AssessmentStatsRepository assessmentStatsRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @InjectMocks
+    private AssessmentStatsEventListener listener;
+
+    @Test
+    void bulkGradeUpdatesEachAssessmentRowOnce() {
+        AssessmentStats first = new AssessmentStats(1L);
+        AssessmentStats second = new AssessmentStats(2L);
+        when(assessmentStatsRepository.findForUpdate(1L)).thenReturn(Optional.of(first));
+        when(assessmentStatsRepository.findForUpdate(2L)).thenReturn(Optional.of(second));
+
+        listener.onSubmissionsBulkGraded(new SubmissionsBulkGradedEvent(List.of(
+                graded(1L, null, 80.0), graded(2L, null, 50.0), graded(1L, null, 60.0))));
+
+        assertThat(first.getGradedCount()).isEqualTo(2L);
+        assertThat(first.getAverageMarks()).isEqualTo(70.0);
+        assertThat(first.getMinMarks()).isEqualTo(60.0);
+        assertThat(first.getMaxMarks()).isEqualTo(80.0);
+        assertThat(second.getGradedCount()).isEqualTo(1L);
+        verify(assessmentStatsRepository, times(1)).findForUpdate(1L);
+        verify(assessmentStatsRepository, times(1)).findForUpdate(2L);
+    }
+
+    @Test
+    void missingRowIsRebuiltOnceWithoutApplyingTheBatchAgain() {
+        AssessmentStats inserted = new AssessmentStats(1L);
+        when(assessmentStatsRepository.findForUpdate(1L)).thenReturn(Optional.empty(), Optional.of(inserted));
+        when(assessmentStatsRepository.insertEmptyIfAbsent(1L)).thenReturn(1);
+        // The aggregate already sees both grades written by the batch
+        when(submissionRepository.summarizeSubmissionsByAssessment(1L))
+                .thenReturn(Collections.singletonList(new Object[]{2L, 2L, 0L, 140.0, 10000.0, 60.0, 80.0}));
+
+        listener.onSubmissionsBulkGraded(new SubmissionsBulkGradedEvent(List.of(
+                graded(1L, null, 80.0), graded(1L, null, 60.0))));
+
+        assertThat(inserted.getGradedCount()).isEqualTo(2L);
+        assertThat(inserted.getMarksSum()).isEqualTo(140.0);
+        verify(assessmentStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void rebuildLosingTheInsertRaceAppliesItsGradeToTheWinnersRow() {
+        // The concurrent rebuild committed a row whose aggregate could not see this grade
+        AssessmentStats winners = new AssessmentStats(1L);
+        winners.addGrade(50.0);
+        when(assessmentStatsRepository.findForUpdate(1L)).thenReturn(Optional.empty(), Optional.of(winners));
+        when(assessmentStatsRepository.insertEmptyIfAbsent(1L)).thenReturn(0);
+
+        listener.onSubmissionGraded(graded(1L, null, 70.0));
+
+        assertThat(winners.getGradedCount()).isEqualTo(2L);
+        assertThat(winners.getMarksSum()).isEqualTo(120.0);
+        verify(submissionRepository, never()).summarizeSubmissionsByAssessment(any());
+    }
+
+    @Test
+    void regradingTheMaximumRecomputesTheExtremes() {
+        AssessmentStats stats = new AssessmentStats(1L);
+        stats.addGrade(60.0);
+        stats.addGrade(80.0);
+        when(assessmentStatsRepository.findForUpdate(1L)).thenReturn(Optional.of(stats));
+        when(submissionRepository.summarizeSubmissionsByAssessment(1L))
+                .thenReturn(Collections.singletonList(new Object[]{2L, 2L, 0L, 130.0, 8500.0, 60.0, 70.0}));
+
+        listener.onSubmissionGraded(graded(1L, 80.0, 70.0));
+
+        assertThat(stats.getGradedCount()).isEqualTo(2L);
+        assertThat(stats.getMarksSum()).isEqualTo(130.0);
+        assertThat(stats.getMaxMarks()).isEqualTo(70.0);
+    }
+
+    @Test
+    void regradingAnInteriorMarkSkipsTheAggregate() {
+        AssessmentStats stats = new AssessmentStats(1L);
+        stats.addGrade(40.0);
+        stats.addGrade(60.0);
+        stats.addGrade(80.0);
+        when(assessmentStatsRepository.findForUpdate(1L)).thenReturn(Optional.of(stats));
+
+        listener.onSubmissionGraded(graded(1L, 60.0, 65.0));
+
+        assertThat(stats.getMarksSum()).isEqualTo(185.0);
+        verify(submissionRepository, never()).summarizeSubmissionsByAssessment(any());
+    }
+
+    private SubmissionGradedEvent graded(Long assessmentId, Double previousMarks, double marks) {
+        return new SubmissionGradedEvent(100L, assessmentId, 10L, 1L, previousMarks, marks, false);
+    }
+}
@@ -0,0 +1,131 @@
+package com.coursemate.event;
+
+import com.coursemate.entity.Progress;
+import com.coursemate.id.SnowflakeIdGenerator;
+import com.coursemate.repository.ProgressRepository;
+import com.coursemate.service.ProgressService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProgressEventListenerTest {
+
+    @Mock
+    private ProgressRepository progressRepository;
+
+    @Mock
+    private ProgressService progressService;
+
+    @Mock
+    private SnowflakeIdGenerator idGenerator;
+
+    @InjectMocks
+    private ProgressEventListener listener;
+
+    @Test
+    void submittingAndGradingMaintainTheCounters() {
+        Progress progress = progress();
+        when(progressRepository.findForUpdate(1L, 10L)).thenReturn(Optional.of(progress));
+
+        listener.onSubmissionSubmitted(new SubmissionSubmittedEvent(100L, 5L, 10L, 1L, null, false));
+        listener.onSubmissionGraded(new SubmissionGradedEvent(100L, 5L, 10L, 1L, null, 80.0, false));
+        listener.onSubmissionGraded(new SubmissionGradedEvent(100L, 5L, 10L, 1L, 80.0, 90.0, false));
+
+        assertThat(progress.getTotalAssignmentsSubmitted()).isEqualTo(1);
+        assertThat(progress.getGradedCount()).isEqualTo(1);
+        assertThat(progress.getTotalScore()).isEqualTo(90.0);
+        assertThat(progress.getAverageScore()).isEqualTo(90.0);
+        assertThat(progress.getCompletionPercentage()).isEqualTo(25.0);
+    }
+
+    @Test
+    void deletingAGradedSubmissionTakesItOutOfTheTotals() {
+        Progress progress = progress();
+        progress.setTotalAssignmentsSubmitted(2);
+        progress.setGradedCount(2);
+        progress.setTotalScore(150.0);
+        when(progressRepository.findForUpdate(1L, 10L)).thenReturn(Optional.of(progress));
+
+        listener.onSubmissionDeleted(new SubmissionDeletedEvent(100L, 5L, 10L, 1L, 70.0, false));
+
+        assertThat(progress.getTotalAssignmentsSubmitted()).isEqualTo(1);
+        assertThat(progress.getGradedCount()).isEqualTo(1);
+        assertThat(progress.getAverageScore()).isEqualTo(80.0);
+    }
+
+    @Test
+    void bulkGradeUpdatesEachStudentCourseRowOnce() {
+        Progress progress = progress();
+        progress.setTotalAssignmentsSubmitted(2);
+        when(progressRepository.findForUpdate(1L, 10L)).thenReturn(Optional.of(progress));
+
+        listener.onSubmissionsBulkGraded(new SubmissionsBulkGradedEvent(List.of(
+                new SubmissionGradedEvent(100L, 5L, 10L, 1L, null, 80.0, false),
+                new SubmissionGradedEvent(101L, 6L, 10L, 1L, null, 70.0, false))));
+
+        assertThat(progress.getGradedCount()).isEqualTo(2);
+        assertThat(progress.getTotalScore()).isEqualTo(150.0);
+        assertThat(progress.getAverageScore()).isEqualTo(75.0);
+        verify(progressRepository, times(1)).findForUpdate(1L, 10L);
+    }
+
+    @Test
+    void missingRowIsRecalculatedWithoutApplyingTheBatchAgain() {
+        Progress inserted = progress();
+        when(progressRepository.findForUpdate(1L, 10L)).thenReturn(Optional.empty(), Optional.of(inserted));
+        when(idGenerator.nextId()).thenReturn(42L);
+        when(progressRepository.insertEmptyIfAbsent(42L, 1L, 10L)).thenReturn(1);
+
+        listener.onSubmissionsBulkGraded(new SubmissionsBulkGradedEvent(List.of(
+                new SubmissionGradedEvent(100L, 5L, 10L, 1L, null, 80.0, false),
+                new SubmissionGradedEvent(101L, 6L, 10L, 1L, null, 70.0, false))));
+
+        verify(progressService, times(1)).calculateProgress(1L, 10L);
+        verify(progressRepository, times(2)).findForUpdate(1L, 10L);
+        assertThat(inserted.getGradedCount()).isZero();
+    }
+
+    @Test
+    void rebuildLosingTheInsertRaceAppliesItsGradeToTheWinnersRow() {
+        Progress winners = progress();
+        winners.setTotalAssignmentsSubmitted(1);
+        winners.setGradedCount(1);
+        winners.setTotalScore(60.0);
+        when(progressRepository.findForUpdate(1L, 10L)).thenReturn(Optional.empty(), Optional.of(winners));
+        when(idGenerator.nextId()).thenReturn(42L);
+        when(progressRepository.insertEmptyIfAbsent(42L, 1L, 10L)).thenReturn(0);
+
+        listener.onSubmissionGraded(new SubmissionGradedEvent(100L, 5L, 10L, 1L, null, 80.0, false));
+
+        assertThat(winners.getGradedCount()).isEqualTo(2);
+        assertThat(winners.getTotalScore()).isEqualTo(140.0);
+        verify(progressService, never()).calculateProgress(any(), any());
+    }
+
+    @Test
+    void emptyBulkEventTouchesNothing() {
+        listener.onSubmissionsBulkGraded(new SubmissionsBulkGradedEvent(List.of()));
+
+        verifyNoInteractions(progressRepository, progressService);
+    }
+
+    private Progress progress() {
+        Progress progress = new Progress();
+        progress.setTotalAssignmentsAssigned(4);
+        return progress;
+    }
+}
@@ -0,0 +1,55 @@
+package com.coursemate.id;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void idsIncreaseAndNeverRunAheadOfTheClock() {
+        SnowflakeIdGenerator generator = generator(7);
+
+        long previous = -1;
+        for (int i = 0; i < 20_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(SnowflakeIdGenerator.timestampOf(id)).isLessThanOrEqualTo(System.currentTimeMillis());
+            previous = id;
+        }
+        assertThat(generator.getNodeId()).isEqualTo(7);
+    }
+
+    @Test
+    void nodeIdMustBeSetWithoutTheLeaseTable() {
+        SnowflakeNodeLease lease = new SnowflakeNodeLease();
+        ReflectionTestUtils.setField(lease, "leaseEnabled", false);
+
+        assertThatThrownBy(lease::acquire).hasMessageContaining("app.id.node-id");
+    }
+
+    @Test
+    void nodeIdOutOfRangeIsRejected() {
+        assertThatThrownBy(() -> generator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .hasMessageContaining("between 0 and");
+    }
+
+    @Test
+    void idsAreNotIssuedBeforeTheNodeIdIsLeased() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator();
+
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    private SnowflakeIdGenerator generator(int nodeId) {
+        SnowflakeNodeLease lease = new SnowflakeNodeLease();
+        ReflectionTestUtils.setField(lease, "leaseEnabled", false);
+        ReflectionTestUtils.setField(lease, "configuredNodeId", nodeId);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator();
+        ReflectionTestUtils.setField(generator, "nodeLease", lease);
+        generator.afterSingletonsInstantiated();
+        return generator;
+    }
+}
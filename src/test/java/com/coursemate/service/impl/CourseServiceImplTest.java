@@ -0,0 +1,168 @@
+package com.coursemate.service.impl;
+
+import com.coursemate.dto.CourseDTO;
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.PageQuery;
+import com.coursemate.exception.BadRequestException;
+import com.coursemate.repository.CourseRepository;
+import com.coursemate.search.CourseSearchIndex;
+import com.coursemate.util.PageResults;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Search paging: offsets and cursors may only reach into the first
+ * max-result-window hits, and the paging metadata never offers a page beyond it.
+ */
+@ExtendWith(MockitoExtension.class)
+class CourseServiceImplTest {
+
+    private static final int WINDOW = 20;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private CourseSearchIndex courseSearchIndex;
+
+    @InjectMocks
+    private CourseServiceImpl courseService;
+
+    @Test
+    void rankedPageKeepsTheIndexOrder() {
+        indexEnabled();
+        when(courseSearchIndex.search("java", 0, 3))
+                .thenReturn(new CourseSearchIndex.SearchResult(List.of(7L, 3L, 5L), 3));
+        when(courseRepository.findCourseSummariesByIdIn(List.of(7L, 3L, 5L)))
+                .thenReturn(coursesWithIds(3, 5, 7));
+
+        CursorPage<CourseDTO> page = courseService.searchCourses("java", offsetQuery(0, 3));
+
+        assertThat(page.getItems()).extracting(CourseDTO::getId).containsExactly(7L, 3L, 5L);
+        assertThat(page.getPageInfo().isHasNext()).isFalse();
+    }
+
+    @Test
+    void cursorContinuesAtTheNextOffset() {
+        indexEnabled();
+        when(courseSearchIndex.search("java", 0, 8))
+                .thenReturn(new CourseSearchIndex.SearchResult(ids(1, 8), 250));
+        when(courseSearchIndex.search("java", 8, 8))
+                .thenReturn(new CourseSearchIndex.SearchResult(ids(9, 16), 250));
+        when(courseRepository.findCourseSummariesByIdIn(ids(1, 8))).thenReturn(courses(1, 8));
+        when(courseRepository.findCourseSummariesByIdIn(ids(9, 16))).thenReturn(courses(9, 16));
+
+        CursorPage<CourseDTO> first = courseService.searchCourses("java", cursorQuery(null, 8));
+        CursorPage<CourseDTO> second = courseService.searchCourses("java",
+                cursorQuery(first.getPageInfo().getNextCursor(), 8));
+
+        assertThat(PageResults.decodeCursor(first.getPageInfo().getNextCursor())).isEqualTo(8L);
+        assertThat(second.getItems()).extracting(CourseDTO::getId).containsExactlyElementsOf(ids(9, 16));
+    }
+
+    @Test
+    void lastPageInsideTheWindowIsCutShortAndOffersNoNextPage() {
+        indexEnabled();
+        when(courseSearchIndex.search("java", 16, 4))
+                .thenReturn(new CourseSearchIndex.SearchResult(ids(17, 20), 250));
+        when(courseRepository.findCourseSummariesByIdIn(ids(17, 20))).thenReturn(courses(17, 20));
+
+        CursorPage<CourseDTO> page = courseService.searchCourses("java", offsetQuery(2, 8));
+
+        assertThat(page.getItems()).hasSize(4);
+        assertThat(page.getPageInfo().isHasNext()).isFalse();
+        assertThat(page.getPageInfo().getNextCursor()).isNull();
+        assertThat(page.getPageInfo().getTotalElements()).isEqualTo(250L);
+        assertThat(page.getPageInfo().getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    void pagesBeyondTheWindowAreRejected() {
+        when(courseSearchIndex.getMaxResultWindow()).thenReturn(WINDOW);
+
+        assertThatThrownBy(() -> courseService.searchCourses("java", offsetQuery(3, 8)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> courseService.searchCourses("java", cursorQuery(PageResults.encodeCursor(20L), 8)))
+                .isInstanceOf(BadRequestException.class);
+        verify(courseSearchIndex, never()).search(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void hugeOrNegativePagesAreRejectedWithoutOverflowing() {
+        when(courseSearchIndex.getMaxResultWindow()).thenReturn(WINDOW);
+
+        assertThatThrownBy(() -> courseService.searchCourses("java", offsetQuery(Integer.MAX_VALUE, 500)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> courseService.searchCourses("java", offsetQuery(-1, 8)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> courseService.searchCourses("java", cursorQuery(PageResults.encodeCursor(-8L), 8)))
+                .isInstanceOf(BadRequestException.class);
+        verify(courseSearchIndex, never()).search(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void substringFallbackPagesWithinTheSameWindow() {
+        when(courseSearchIndex.getMaxResultWindow()).thenReturn(WINDOW);
+        when(courseSearchIndex.isEnabled()).thenReturn(false);
+        when(courseRepository.searchCourseSummaries("java")).thenReturn(courses(1, 30));
+
+        CursorPage<CourseDTO> page = courseService.searchCourses("java", offsetQuery(1, 8));
+
+        assertThat(page.getItems()).extracting(CourseDTO::getId).containsExactlyElementsOf(ids(9, 16));
+        assertThat(page.getPageInfo().isHasNext()).isTrue();
+        assertThat(page.getPageInfo().getTotalPages()).isEqualTo(3);
+    }
+
+    private void indexEnabled() {
+        when(courseSearchIndex.getMaxResultWindow()).thenReturn(WINDOW);
+        when(courseSearchIndex.isEnabled()).thenReturn(true);
+    }
+
+    private PageQuery offsetQuery(int page, int size) {
+        PageQuery query = new PageQuery();
+        query.setPage(page);
+        query.setSize(size);
+        return query;
+    }
+
+    private PageQuery cursorQuery(String cursor, int size) {
+        PageQuery query = new PageQuery();
+        query.setCursor(cursor);
+        query.setSize(size);
+        return query;
+    }
+
+    private List<Long> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+
+    private List<CourseDTO> courses(long from, long to) {
+        return ids(from, to).stream().map(this::course).collect(Collectors.toList());
+    }
+
+    private List<CourseDTO> coursesWithIds(long... ids) {
+        return LongStream.of(ids).mapToObj(this::course).collect(Collectors.toList());
+    }
+
+    private CourseDTO course(long id) {
+        CourseDTO course = new CourseDTO();
+        course.setId(id);
+        course.setTitle("Course " + id);
+        return course;
+    }
+}
@@ -0,0 +1,240 @@
+package com.coursemate.service.impl;
+
+import com.coursemate.dto.BulkOperationReport;
+import com.coursemate.dto.EnrollmentTicketDTO;
+import com.coursemate.entity.Course;
+import com.coursemate.entity.User;
+import com.coursemate.exception.BadRequestException;
+import com.coursemate.id.SnowflakeIdGenerator;
+import com.coursemate.repository.CourseRepository;
+import com.coursemate.repository.EnrollmentRepository;
+import com.coursemate.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * The seat counter's conditional UPDATE is the last line of defence against
+ * oversubscription; these tests stand it in with an atomic counter that has
+ * the same all-or-nothing contract.
+ */
+@ExtendWith(MockitoExtension.class)
+class EnrollmentServiceImplTest {
+
+    private static final Long COURSE_ID = 10L;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private SeatReservationGate seatGate;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private SnowflakeIdGenerator idGenerator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private EnrollmentServiceImpl enrollmentService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(enrollmentService, "bulkBatchSize", 500);
+        ReflectionTestUtils.setField(enrollmentService, "bulkMaxRows", 10_000);
+    }
+
+    @Test
+    void concurrentBulkEnrollmentsNeverTakeMoreSeatsThanTheCounterHolds() throws Exception {
+        int seats = 5;
+        int requests = 20;
+        // Every request sees all seats free on the course row; only the counter knows better
+        when(courseRepository.findByIdForUpdate(COURSE_ID)).thenReturn(Optional.of(course(seats, 0)));
+        when(userRepository.findExistingIds(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        AtomicInteger seatsTaken = seatCounter(seats);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> outcomes = new ArrayList<>();
+        try {
+            for (long studentId = 1; studentId <= requests; studentId++) {
+                List<Long> studentIds = List.of(studentId);
+                outcomes.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        BulkOperationReport report = enrollmentService.bulkEnroll(COURSE_ID, studentIds);
+                        return report.getSucceeded() == 1;
+                    } catch (BadRequestException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int enrolled = 0;
+            for (Future<Boolean> outcome : outcomes) {
+                if (outcome.get(10, TimeUnit.SECONDS)) {
+                    enrolled++;
+                }
+            }
+            assertThat(enrolled).isEqualTo(seats);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(seatsTaken).hasValue(seats);
+        verify(jdbcTemplate, times(seats)).batchUpdate(anyString(), anyList(), anyInt(), any());
+    }
+
+    @Test
+    void bulkEnrollInsertsNothingWhenTheCounterHasFewerSeatsThanTheRow() {
+        when(courseRepository.findByIdForUpdate(COURSE_ID)).thenReturn(Optional.of(course(5, 0)));
+        when(userRepository.findExistingIds(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(courseRepository.reserveSeats(COURSE_ID, 2)).thenReturn(0);
+
+        assertThatThrownBy(() -> enrollmentService.bulkEnroll(COURSE_ID, List.of(1L, 2L)))
+                .isInstanceOf(BadRequestException.class);
+
+        verifyNoInteractions(jdbcTemplate, eventPublisher);
+    }
+
+    @Test
+    void bulkEnrollRejectsRowsBeyondTheFreeSeats() {
+        when(courseRepository.findByIdForUpdate(COURSE_ID)).thenReturn(Optional.of(course(3, 1)));
+        when(userRepository.findExistingIds(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(courseRepository.reserveSeats(COURSE_ID, 2)).thenReturn(1);
+
+        BulkOperationReport report = enrollmentService.bulkEnroll(COURSE_ID, List.of(1L, 2L, 3L));
+
+        assertThat(report.getSucceeded()).isEqualTo(2);
+        assertThat(report.getRejected()).isEqualTo(1);
+        assertThat(report.getResults().get(2).getMessage()).isEqualTo("Course is full. Maximum students reached.");
+        verify(seatGate).markFull(COURSE_ID);
+    }
+
+    @Test
+    void queuedBatchFailsWhenTheCounterHasFewerSeatsThanTheRow() {
+        when(courseRepository.findByIdForUpdate(COURSE_ID)).thenReturn(Optional.of(course(5, 0)));
+        when(userRepository.findFullNamesByIdIn(anyCollection())).thenAnswer(invocation -> names(invocation.getArgument(0)));
+        when(courseRepository.reserveSeats(COURSE_ID, 2)).thenReturn(0);
+        List<EnrollmentTicketDTO> tickets = List.of(ticket(1L), ticket(2L));
+
+        assertThatThrownBy(() -> enrollmentService.enrollBatch(COURSE_ID, tickets))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(enrollmentRepository, never()).saveAll(any());
+        verify(seatGate, never()).markFull(COURSE_ID);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void queuedBatchEnrollsByStudentReferenceWithoutLoadingUsers() {
+        when(courseRepository.findByIdForUpdate(COURSE_ID)).thenReturn(Optional.of(course(5, 0)));
+        when(userRepository.findFullNamesByIdIn(anyCollection())).thenAnswer(invocation -> names(List.of(1L)));
+        when(userRepository.getReferenceById(1L)).thenReturn(user(1L));
+        when(courseRepository.reserveSeats(COURSE_ID, 1)).thenReturn(1);
+        when(enrollmentRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<EnrollmentTicketDTO> tickets = enrollmentService.enrollBatch(COURSE_ID,
+                List.of(ticket(1L), ticket(2L)));
+
+        assertThat(tickets.get(0).getStatus()).isEqualTo(EnrollmentTicketDTO.ENROLLED);
+        assertThat(tickets.get(0).getEnrollment().getStudentName()).isEqualTo("User 1");
+        assertThat(tickets.get(1).getStatus()).isEqualTo(EnrollmentTicketDTO.REJECTED);
+        assertThat(tickets.get(1).getMessage()).isEqualTo("User not found with id: '2'");
+        verify(userRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void directEnrollmentIntoAFullCourseMarksItInTheGate() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L)));
+        when(courseRepository.findById(COURSE_ID)).thenReturn(Optional.of(course(5, 5)));
+        when(courseRepository.reserveSeat(COURSE_ID)).thenReturn(0);
+
+        assertThatThrownBy(() -> enrollmentService.enrollStudent(1L, COURSE_ID))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Course is full. Maximum students reached.");
+
+        verify(seatGate).markFull(COURSE_ID);
+        verify(enrollmentRepository, never()).save(any());
+    }
+
+    // Helper to back reserveSeats with an all-or-nothing counter, like the conditional UPDATE
+    private AtomicInteger seatCounter(int maxStudents) {
+        AtomicInteger seatsTaken = new AtomicInteger();
+        when(courseRepository.reserveSeats(eq(COURSE_ID), anyInt())).thenAnswer(invocation -> {
+            int wanted = invocation.getArgument(1);
+            int taken;
+            do {
+                taken = seatsTaken.get();
+                if (taken + wanted > maxStudents) {
+                    return 0;
+                }
+            } while (!seatsTaken.compareAndSet(taken, taken + wanted));
+            return 1;
+        });
+        return seatsTaken;
+    }
+
+    private Course course(int maxStudents, int seatsTaken) {
+        Course course = new Course("Distributed Systems", "Consensus and replication", "CS501", user(99L));
+        course.setId(COURSE_ID);
+        course.setMaxStudents(maxStudents);
+        course.setSeatsTaken(seatsTaken);
+        return course;
+    }
+
+    private List<Object[]> names(Collection<Long> ids) {
+        return ids.stream().map(id -> new Object[]{id, "User " + id}).toList();
+    }
+
+    private User user(Long id) {
+        User user = new User("user" + id + "@coursemate.test", "user" + id, "hash", "User", String.valueOf(id));
+        user.setId(id);
+        return user;
+    }
+
+    private EnrollmentTicketDTO ticket(Long studentId) {
+        return new EnrollmentTicketDTO("ticket-" + studentId, studentId, COURSE_ID, EnrollmentTicketDTO.QUEUED,
+                null, null, null, null);
+    }
+}
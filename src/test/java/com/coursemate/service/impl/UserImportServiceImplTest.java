@@ -0,0 +1,195 @@
+package com.coursemate.service.impl;
+
+import com.coursemate.dto.BulkOperationReport;
+import com.coursemate.dto.BulkRowResult;
+import com.coursemate.dto.ExportFormat;
+import com.coursemate.entity.Role;
+import com.coursemate.exception.BadRequestException;
+import com.coursemate.id.SnowflakeIdGenerator;
+import com.coursemate.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceImplTest {
+
+    private static final String HEADER = "first_name,last_name,username,email,password,role\n";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleRegistry roleRegistry;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private SnowflakeIdGenerator idGenerator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private UserImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(importService, "validator",
+                Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(importService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(importService, "bulkBatchSize", 2);
+        ReflectionTestUtils.setField(importService, "bulkMaxRows", 100);
+        ReflectionTestUtils.setField(importService, "hashParallelism", 1);
+        importService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.stop();
+    }
+
+    @Test
+    void csvImportReportsEveryRowByItsLineNumber() throws IOException {
+        when(roleRegistry.getRoleId(Role.RoleType.STUDENT)).thenReturn(3L);
+        when(roleRegistry.getRoleId(Role.RoleType.INSTRUCTOR)).thenReturn(2L);
+        when(userRepository.findExistingUsernames(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> usernames = invocation.getArgument(0);
+            return usernames.stream().filter("taken"::equalsIgnoreCase).collect(Collectors.toList());
+        });
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(idGenerator.nextId()).thenReturn(101L, 102L);
+
+        BulkOperationReport report = importService.importUsers(csv(HEADER
+                + "Ada,Lovelace,ada,ada@example.com,secret1,student\n"
+                + "Bad,Email,bademail,not-an-email,secret1,student\n"
+                + "Ada,Again,ADA,ada2@example.com,secret1,student\n"
+                + "Taken,User,taken,taken@example.com,secret1,student\n"
+                + "No,Body,nobody,nobody@example.com,secret1,wizard\n"
+                + "\"Hopper, Grace\",Brewster,grace,grace@example.com,secret1,instructor\n"), ExportFormat.CSV);
+
+        assertThat(report.getTotal()).isEqualTo(6);
+        assertThat(report.getSucceeded()).isEqualTo(2);
+        assertThat(report.getSkipped()).isEqualTo(2);
+        assertThat(report.getRejected()).isEqualTo(2);
+        assertThat(report.getResults()).extracting(BulkRowResult::getRow).containsExactly(2, 3, 4, 5, 6, 7);
+        assertThat(report.getResults()).extracting(BulkRowResult::getStatus).containsExactly(
+                BulkRowResult.CREATED, BulkRowResult.REJECTED, BulkRowResult.SKIPPED,
+                BulkRowResult.SKIPPED, BulkRowResult.REJECTED, BulkRowResult.CREATED);
+        assertThat(report.getResults()).extracting(BulkRowResult::getMessage).containsExactly(
+                "User created", "Email should be valid", "Duplicate username in file",
+                "Username is already taken", "Unknown role: wizard", "User created");
+        assertThat(report.getResults().get(0).getId()).isEqualTo(101L);
+        assertThat(report.getResults().get(5).getId()).isEqualTo(102L);
+        // Users and their role rows for the two chunks that had rows left to insert
+        verify(jdbcTemplate, times(4)).batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void chunkLosingARaceIsRejectedRowByRow() throws IOException {
+        when(roleRegistry.getRoleId(Role.RoleType.STUDENT)).thenReturn(3L);
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of());
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(idGenerator.nextId()).thenReturn(101L, 102L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DuplicateKeyException("Duplicate entry 'bob' for key 'users.username'"));
+
+        BulkOperationReport report = importService.importUsers(csv(HEADER
+                + "Al,One,al,al@example.com,secret1,student\n"
+                + "Bob,Two,bob,bob@example.com,secret1,student\n"), ExportFormat.CSV);
+
+        assertThat(report.getRejected()).isEqualTo(2);
+        assertThat(report.getResults()).extracting(BulkRowResult::getMessage)
+                .containsOnly("Username or email was taken while importing; retry this row");
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void rowsBeyondTheLimitAreReportedInsteadOfImported() throws IOException {
+        ReflectionTestUtils.setField(importService, "bulkMaxRows", 2);
+        when(roleRegistry.getRoleId(Role.RoleType.STUDENT)).thenReturn(3L);
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of());
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(idGenerator.nextId()).thenReturn(101L, 102L);
+
+        BulkOperationReport report = importService.importUsers(csv(HEADER
+                + "Al,One,al,al@example.com,secret1,student\n"
+                + "Bob,Two,bob,bob@example.com,secret1,student\n"
+                + "Cy,Three,cy,cy@example.com,secret1,student\n"
+                + "Di,Four,di,di@example.com,secret1,student\n"), ExportFormat.CSV);
+
+        assertThat(report.getTotal()).isEqualTo(3);
+        assertThat(report.getSucceeded()).isEqualTo(2);
+        BulkRowResult cutOff = report.getResults().get(2);
+        assertThat(cutOff.getRow()).isEqualTo(4);
+        assertThat(cutOff.getStatus()).isEqualTo(BulkRowResult.REJECTED);
+        assertThat(cutOff.getMessage()).startsWith("User import is limited to 2 rows per request");
+    }
+
+    @Test
+    void ndjsonReportsMalformedLinesAndKeepsGoing() throws IOException {
+        when(roleRegistry.getRoleId(Role.RoleType.STUDENT)).thenReturn(3L);
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of());
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(idGenerator.nextId()).thenReturn(101L);
+
+        BulkOperationReport report = importService.importUsers(csv(
+                "{\"firstName\":\"Al\",\"lastName\":\"One\",\"username\":\"al\","
+                        + "\"email\":\"al@example.com\",\"password\":\"secret1\",\"role\":\"student\"}\n"
+                        + "\n"
+                        + "{\"firstName\":\n"), ExportFormat.NDJSON);
+
+        assertThat(report.getResults()).extracting(BulkRowResult::getRow).containsExactly(1, 3);
+        assertThat(report.getResults().get(0).getStatus()).isEqualTo(BulkRowResult.CREATED);
+        assertThat(report.getResults().get(1).getStatus()).isEqualTo(BulkRowResult.REJECTED);
+        assertThat(report.getResults().get(1).getMessage()).startsWith("Malformed JSON");
+    }
+
+    @Test
+    void csvWithoutTheRequiredColumnsIsRejectedUpFront() {
+        assertThatThrownBy(() -> importService.importUsers(csv("username,email\nal,al@example.com\n"),
+                ExportFormat.CSV))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("CSV header must include columns");
+    }
+
+    private InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,49 @@
+package com.coursemate.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvReaderTest {
+
+    @Test
+    void readsPlainRecordsWithCrLfLineEndings() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("id,name\r\n1,Ada\r\n"));
+
+        assertThat(reader.readRecord()).containsExactly("id", "name");
+        assertThat(reader.readRecord()).containsExactly("1", "Ada");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void quotedFieldsKeepCommasQuotesAndLineBreaks() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(
+                "\"Hopper, Grace\",\"said \"\"hi\"\"\",\"line one\nline two\"\nnext,row\n"));
+
+        assertThat(reader.readRecord()).containsExactly("Hopper, Grace", "said \"hi\"", "line one\nline two");
+        assertThat(reader.getRecordLine()).isEqualTo(1);
+        assertThat(reader.readRecord()).containsExactly("next", "row");
+        assertThat(reader.getRecordLine()).isEqualTo(3);
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,,c,\n"));
+
+        assertThat(reader.readRecord()).containsExactly("a", "", "c", "");
+    }
+
+    @Test
+    void readsLastRecordWithoutTrailingNewline() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("1\n2"));
+
+        assertThat(reader.readRecord()).containsExactly("1");
+        assertThat(reader.readRecord()).containsExactly("2");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.readRecord()).isNull();
+    }
+}
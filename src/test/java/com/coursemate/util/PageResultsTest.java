@@ -0,0 +1,100 @@
+package com.coursemate.util;
+
+import com.coursemate.dto.CursorPage;
+import com.coursemate.dto.PageQuery;
+import com.coursemate.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageResultsTest {
+
+    @Test
+    void cursorRoundTrips() {
+        assertThat(PageResults.decodeCursor(PageResults.encodeCursor(42L))).isEqualTo(42L);
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        String notBase64 = "%%%";
+        String wrongPrefix = Base64.getUrlEncoder().encodeToString("page:3".getBytes(StandardCharsets.UTF_8));
+        String notANumber = Base64.getUrlEncoder().encodeToString("id:abc".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of(notBase64, wrongPrefix, notANumber)) {
+            assertThatThrownBy(() -> PageResults.decodeCursor(cursor)).isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    @Test
+    void firstKeysetPageSeeksFromTheStartOfTheSortOrder() {
+        PageQuery ascending = query(null, 10, "asc");
+        PageQuery descending = query(null, 10, "desc");
+
+        assertThat(PageResults.seekId(ascending)).isEqualTo(0L);
+        assertThat(PageResults.seekId(descending)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void keysetQueryFetchesOneProbeRow() {
+        Pageable pageable = PageResults.keysetPageable(query(null, 2, "asc"));
+
+        assertThat(pageable.getPageSize()).isEqualTo(3);
+        assertThat(pageable.getOffset()).isZero();
+    }
+
+    @Test
+    void keysetPageDropsTheProbeRowAndPointsTheCursorAtTheLastItem() {
+        CursorPage<String> page = PageResults.fromKeyset(List.of(5L, 7L, 9L), query(null, 2, "asc"),
+                id -> id, id -> "course-" + id);
+
+        assertThat(page.getItems()).containsExactly("course-5", "course-7");
+        assertThat(page.getPageInfo().isHasNext()).isTrue();
+        assertThat(PageResults.decodeCursor(page.getPageInfo().getNextCursor())).isEqualTo(7L);
+
+        PageQuery next = query(page.getPageInfo().getNextCursor(), 2, "asc");
+        assertThat(PageResults.seekId(next)).isEqualTo(7L);
+    }
+
+    @Test
+    void lastKeysetPageHasNoCursor() {
+        CursorPage<Long> page = PageResults.fromKeyset(List.of(9L), query(null, 2, "asc"), id -> id, id -> id);
+
+        assertThat(page.getPageInfo().isHasNext()).isFalse();
+        assertThat(page.getPageInfo().getNextCursor()).isNull();
+    }
+
+    @Test
+    void offsetPagingOnlySortsByAllowedFieldsAndNonNegativePages() {
+        PageQuery unknownSort = query(null, 10, "asc");
+        unknownSort.setPage(0);
+        unknownSort.setSort("password");
+        PageQuery negativePage = query(null, 10, "asc");
+        negativePage.setPage(-1);
+
+        assertThatThrownBy(() -> PageResults.offsetPageable(unknownSort, Set.of("id", "title")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> PageResults.offsetPageable(negativePage, Set.of("id", "title")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        assertThat(query(null, 0, "asc").limit()).isEqualTo(PageQuery.DEFAULT_SIZE);
+        assertThat(query(null, 100_000, "asc").limit()).isEqualTo(PageQuery.MAX_SIZE);
+    }
+
+    private PageQuery query(String cursor, int size, String direction) {
+        PageQuery query = new PageQuery();
+        query.setCursor(cursor);
+        query.setSize(size);
+        query.setDirection(direction);
+        return query;
+    }
+}